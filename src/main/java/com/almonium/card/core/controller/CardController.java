@@ -4,17 +4,33 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.auth.common.annotation.Auth;
 import com.almonium.auth.common.model.entity.Principal;
+import com.almonium.card.core.dto.CardAudioJobDto;
+import com.almonium.card.core.dto.CardCompletionDto;
 import com.almonium.card.core.dto.CardCreationDto;
 import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.CardImportResultDto;
+import com.almonium.card.core.dto.CardPageDto;
 import com.almonium.card.core.dto.CardUpdateDto;
+import com.almonium.card.core.dto.WordFrequencyDto;
+import com.almonium.card.core.model.enums.CardSort;
+import com.almonium.card.core.service.CardAudioService;
+import com.almonium.card.core.service.CardFrequencyService;
+import com.almonium.card.core.service.CardImportService;
 import com.almonium.card.core.service.CardService;
 import com.almonium.engine.translator.model.enums.Language;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.InputStream;
 import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,14 +38,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+@Validated
 @RestController
 @RequestMapping("/cards")
 @RequiredArgsConstructor
 @FieldDefaults(level = PRIVATE, makeFinal = true)
 public class CardController {
     CardService cardService;
+    CardFrequencyService cardFrequencyService;
+    CardAudioService cardAudioService;
+    CardImportService cardImportService;
 
     @PostMapping
     public ResponseEntity<Void> createCard(@Valid @RequestBody CardCreationDto dto, @Auth Principal auth) {
@@ -37,6 +59,27 @@ public class CardController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    /**
+     * Imports a JSON array of cards, read from the request as it arrives.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CardImportResultDto> importCards(InputStream body, @Auth Principal auth) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(cardImportService.importJson(auth.getUser().getLearner(), body));
+    }
+
+    /**
+     * Imports a CSV file or an Anki plain text export: entry, translations separated by semicolons, tags.
+     */
+    @SneakyThrows
+    @PostMapping(value = "/import/file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CardImportResultDto> importFile(
+            @RequestParam MultipartFile file, @RequestParam Language lang, @Auth Principal auth) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(cardImportService.importFile(
+                        auth.getUser().getLearner(), file.getInputStream(), file.getOriginalFilename(), lang));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Void> updateCard(
             @PathVariable Long id, @Valid @RequestBody CardUpdateDto dto, @Auth Principal auth) {
@@ -49,6 +92,27 @@ public class CardController {
         return ResponseEntity.ok(cardService.getUsersCards(auth.getUser().getLearner()));
     }
 
+    /**
+     * Lists the user's cards a page at a time; pass the returned cursor back with the same sort to get the next page.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CardPageDto> getCardPage(
+            @RequestParam(defaultValue = "UPDATED") CardSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @Auth Principal auth) {
+        return ResponseEntity.ok(cardService.getUsersCardsPage(auth.getUser().getLearner(), sort, cursor, size));
+    }
+
+    /**
+     * Completes a prefix typed by the user to the entries of their cards, served from memory for as-you-type lookup.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<CardCompletionDto>> autocomplete(
+            @RequestParam String prefix, @RequestParam(defaultValue = "10") int limit, @Auth Principal auth) {
+        return ResponseEntity.ok(cardService.autocomplete(prefix, limit, auth.getUser().getLearner()));
+    }
+
     @GetMapping("/lang/{lang}")
     public ResponseEntity<List<CardDto>> getCardStackOfLang(@PathVariable Language lang, @Auth Principal auth) {
         return ResponseEntity.ok(
@@ -65,6 +129,40 @@ public class CardController {
         return ResponseEntity.ok(cardService.getCardByPublicId(hash));
     }
 
+    /**
+     * Scores how common the entry of each of the user's cards is and stores it in the card's {@code frequency}, in
+     * hundredths of the 0 to 10 frequency score; returns the number of cards scored.
+     */
+    @PutMapping("/frequency")
+    public ResponseEntity<Integer> updateFrequencies(@Auth Principal auth) {
+        return ResponseEntity.ok(
+                cardFrequencyService.updateFrequencies(auth.getUser().getLearner()));
+    }
+
+    /**
+     * Scores the words on the 0 to 10 frequency scale, where 10 is about the frequency of "the"; words not in the
+     * frequency index yet have a null score.
+     */
+    @PostMapping("/frequency/lang/{lang}")
+    public ResponseEntity<List<WordFrequencyDto>> getFrequencies(
+            @PathVariable Language lang, @RequestBody @Size(max = 10_000) List<@NotBlank String> words) {
+        return ResponseEntity.ok(cardFrequencyService.getFrequencies(lang, words));
+    }
+
+    /**
+     * Starts pre-generating the pronunciations of the user's cards in the language; poll the job for progress.
+     */
+    @PostMapping("/audio/lang/{lang}")
+    public ResponseEntity<CardAudioJobDto> pregenerateAudio(@PathVariable Language lang, @Auth Principal auth) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(cardAudioService.pregenerate(auth.getUser().getLearner(), lang));
+    }
+
+    @GetMapping("/audio/jobs/{id}")
+    public ResponseEntity<CardAudioJobDto> getAudioJob(@PathVariable UUID id, @Auth Principal auth) {
+        return ResponseEntity.of(cardAudioService.getJob(auth.getUser().getLearner(), id));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCard(@PathVariable Long id) {
         cardService.deleteById(id);
@@ -0,0 +1,16 @@
+package com.almonium.card.core.dto;
+
+import com.almonium.engine.translator.model.enums.Language;
+import java.util.UUID;
+
+/**
+ * Progress of pre-generating the audio of a learner's cards; {@code cached} counts entries that already had audio.
+ */
+public record CardAudioJobDto(
+        UUID id, Language language, Status status, int total, int synthesized, int cached, int failed) {
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED
+    }
+}
@@ -0,0 +1,5 @@
+package com.almonium.card.core.dto;
+
+import com.almonium.engine.translator.model.enums.Language;
+
+public record CardCompletionDto(Long id, String entry, Language language) {}
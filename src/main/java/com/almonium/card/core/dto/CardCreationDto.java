@@ -28,7 +28,11 @@ public class CardCreationDto {
     String notes;
     TagDto[] tags;
     ExampleDto[] examples;
-    boolean activeLearning;
+
+    // new cards are learnt actively unless a request or an imported deck says otherwise, as on the entity
+    @Builder.Default
+    boolean activeLearning = true;
+
     boolean irregularPlural;
     boolean falseFriend;
     boolean irregularSpelling;
@@ -37,6 +37,8 @@ public class CardDto {
     LocalDateTime updatedAt;
     int iteration;
     int priority;
+    // how common the entry is, in hundredths of the 0 to 10 frequency score (about 0 to 1000); 0 until scored
+    int frequency;
     boolean activeLearning;
     boolean irregularPlural;
     boolean irregularSpelling;
@@ -0,0 +1,6 @@
+package com.almonium.card.core.dto;
+
+/**
+ * Outcome of a bulk import; rows without an entry or with an unknown language are skipped.
+ */
+public record CardImportResultDto(int imported, int skipped) {}
@@ -0,0 +1,8 @@
+package com.almonium.card.core.dto;
+
+import java.util.List;
+
+/**
+ * One page of the user's cards; {@code nextCursor} is null on the last page.
+ */
+public record CardPageDto(List<CardDto> cards, String nextCursor) {}
@@ -0,0 +1,6 @@
+package com.almonium.card.core.dto;
+
+/**
+ * Frequency score of a word on the 0 to 10 scale, or null if the word is not in the frequency index.
+ */
+public record WordFrequencyDto(String word, Double frequency) {}
@@ -0,0 +1,6 @@
+package com.almonium.card.core.event;
+
+/**
+ * Published when a card is created, updated or deleted; listeners re-read the card once the change is committed.
+ */
+public record CardChangedEvent(Long cardId) {}
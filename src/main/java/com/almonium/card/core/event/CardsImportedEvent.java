@@ -0,0 +1,6 @@
+package com.almonium.card.core.event;
+
+/**
+ * Published once per bulk import instead of a {@link CardChangedEvent} per card.
+ */
+public record CardsImportedEvent(Long learnerId) {}
@@ -0,0 +1,7 @@
+package com.almonium.card.core.exception;
+
+public class InvalidCardImportException extends RuntimeException {
+    public InvalidCardImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,32 @@
+package com.almonium.card.core.model.enums;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.repository.projection.CardListingView;
+import java.util.function.ToIntFunction;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Orderings of the card listing. Every ordering is followed by {@code updatedAt} and {@code id}, both descending,
+ * so that the position of a card in the listing is unique and can serve as a keyset cursor.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public enum CardSort {
+    UPDATED(true, view -> 0),
+    PRIORITY(true, CardListingView::priority),
+    FREQUENCY(true, CardListingView::frequency),
+    // least practised cards first
+    ITERATION(false, CardListingView::iteration);
+
+    @Getter
+    boolean descending;
+
+    ToIntFunction<CardListingView> key;
+
+    public int sortValue(CardListingView view) {
+        return key.applyAsInt(view);
+    }
+}
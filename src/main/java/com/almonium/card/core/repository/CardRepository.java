@@ -1,16 +1,36 @@
 package com.almonium.card.core.repository;
 
 import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.repository.projection.CardEntryView;
+import com.almonium.card.core.repository.projection.CardListingView;
 import com.almonium.engine.translator.model.enums.Language;
 import com.almonium.user.core.model.entity.Learner;
+import com.google.common.collect.Lists;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CardRepository extends JpaRepository<Card, Long> {
+    String LISTING_SELECT =
+            """
+            select new com.almonium.card.core.repository.projection.CardListingView(
+                c.id, c.publicId, c.owner.id, c.entry, c.language, c.notes, c.createdAt, c.updatedAt,
+                c.iteration, c.priority, c.frequency,
+                c.activeLearning, c.irregularPlural, c.irregularSpelling, c.falseFriend)
+            from Card c
+            where c.owner = :owner
+            """;
+    // well below the 32767 bind parameters PostgreSQL accepts in one statement
+    int FETCH_BATCH_SIZE = 1000;
+
     List<Card> findAllByOwner(Learner owner);
 
     List<Card> findAllByOwnerAndLanguage(Learner owner, Language language);
@@ -18,4 +38,88 @@ public interface CardRepository extends JpaRepository<Card, Long> {
     List<Card> findAllByOwnerAndEntryLikeIgnoreCase(Learner user, String entry);
 
     Optional<Card> getByPublicId(UUID id);
+
+    List<CardEntryView> findEntriesByOwner(Learner owner);
+
+    @Query("select distinct c.entry from Card c where c.language = :language")
+    List<String> findDistinctEntriesByLanguage(Language language);
+
+    @Query("select distinct c from Card c left join fetch c.translations where c.id in :ids")
+    List<Card> fetchTranslations(@Param("ids") Collection<Long> ids);
+
+    @Query("select distinct c from Card c left join fetch c.examples where c.id in :ids")
+    List<Card> fetchExamples(@Param("ids") Collection<Long> ids);
+
+    @Query("select distinct c from Card c left join fetch c.cardTags ct left join fetch ct.tag where c.id in :ids")
+    List<Card> fetchCardTags(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Initializes the translations, examples and tags of cards loaded in the current persistence context
+     * with one query per collection, instead of one query per card and collection when they are mapped.
+     * Each query join-fetches a single collection, so rows never multiply across collections; the ids are sent in
+     * chunks of {@link #FETCH_BATCH_SIZE} to keep every statement within the database's parameter limit.
+     */
+    default void fetchDetails(Collection<Card> cards) {
+        List<Long> ids = cards.stream().map(Card::getId).distinct().toList();
+        for (List<Long> chunk : Lists.partition(ids, FETCH_BATCH_SIZE)) {
+            fetchTranslations(chunk);
+            fetchExamples(chunk);
+            fetchCardTags(chunk);
+        }
+    }
+
+    /**
+     * Keyset queries of the card listing: each returns the cards strictly after the cursor
+     * ({@code sortValue}, {@code updatedAt}, {@code id}) in the order of the matching {@code CardSort},
+     * so that every page is an index range scan no matter how deep it is.
+     */
+    @Query(LISTING_SELECT
+            + """
+            and (c.updatedAt < :updatedAt or (c.updatedAt = :updatedAt and c.id < :id))
+            order by c.updatedAt desc, c.id desc
+            """)
+    List<CardListingView> findPageByUpdated(
+            @Param("owner") Learner owner,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") long id,
+            Pageable pageable);
+
+    @Query(LISTING_SELECT
+            + """
+            and (c.priority < :sortValue or (c.priority = :sortValue
+                and (c.updatedAt < :updatedAt or (c.updatedAt = :updatedAt and c.id < :id))))
+            order by c.priority desc, c.updatedAt desc, c.id desc
+            """)
+    List<CardListingView> findPageByPriority(
+            @Param("owner") Learner owner,
+            @Param("sortValue") int sortValue,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") long id,
+            Pageable pageable);
+
+    @Query(LISTING_SELECT
+            + """
+            and (c.frequency < :sortValue or (c.frequency = :sortValue
+                and (c.updatedAt < :updatedAt or (c.updatedAt = :updatedAt and c.id < :id))))
+            order by c.frequency desc, c.updatedAt desc, c.id desc
+            """)
+    List<CardListingView> findPageByFrequency(
+            @Param("owner") Learner owner,
+            @Param("sortValue") int sortValue,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") long id,
+            Pageable pageable);
+
+    @Query(LISTING_SELECT
+            + """
+            and (c.iteration > :sortValue or (c.iteration = :sortValue
+                and (c.updatedAt < :updatedAt or (c.updatedAt = :updatedAt and c.id < :id))))
+            order by c.iteration asc, c.updatedAt desc, c.id desc
+            """)
+    List<CardListingView> findPageByIteration(
+            @Param("owner") Learner owner,
+            @Param("sortValue") int sortValue,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") long id,
+            Pageable pageable);
 }
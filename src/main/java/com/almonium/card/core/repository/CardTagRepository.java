@@ -3,7 +3,10 @@ package com.almonium.card.core.repository;
 import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.core.model.entity.CardTag;
 import com.almonium.card.core.model.entity.pk.CardTagPK;
+import com.almonium.card.core.repository.projection.CardTagView;
 import com.almonium.user.core.model.entity.Learner;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,4 +20,12 @@ public interface CardTagRepository extends JpaRepository<CardTag, CardTagPK> {
 
     @Query(value = "from CardTag CT where CT.card = :card and CT.tag.text = :text")
     CardTag getByCardAndText(Card card, String text);
+
+    @Query(
+            """
+            select new com.almonium.card.core.repository.projection.CardTagView(ct.card.id, ct.tag.text)
+            from CardTag ct
+            where ct.card.id in :cardIds
+            """)
+    List<CardTagView> findViewsByCardIds(@Param("cardIds") Collection<Long> cardIds);
 }
@@ -1,8 +1,23 @@
 package com.almonium.card.core.repository;
 
 import com.almonium.card.core.model.entity.Example;
+import com.almonium.card.core.repository.projection.CardExampleView;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ExampleRepository extends JpaRepository<Example, Long> {}
+public interface ExampleRepository extends JpaRepository<Example, Long> {
+    @Query(
+            """
+            select new com.almonium.card.core.repository.projection.CardExampleView(
+                e.card.id, e.id, e.example, e.translation)
+            from Example e
+            where e.card.id in :cardIds
+            order by e.id
+            """)
+    List<CardExampleView> findViewsByCardIds(@Param("cardIds") Collection<Long> cardIds);
+}
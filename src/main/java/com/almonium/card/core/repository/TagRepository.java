@@ -1,6 +1,8 @@
 package com.almonium.card.core.repository;
 
 import com.almonium.card.core.model.entity.Tag;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -9,6 +11,8 @@ import org.springframework.stereotype.Repository;
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByText(String text);
 
+    List<Tag> findAllByTextIn(Collection<String> texts);
+
     default Optional<Tag> findByTextWithNormalization(String text) {
         return findByText(Tag.normalizeText(text));
     }
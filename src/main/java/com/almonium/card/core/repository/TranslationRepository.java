@@ -1,8 +1,23 @@
 package com.almonium.card.core.repository;
 
 import com.almonium.card.core.model.entity.Translation;
+import com.almonium.card.core.repository.projection.CardTranslationView;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TranslationRepository extends JpaRepository<Translation, Long> {}
+public interface TranslationRepository extends JpaRepository<Translation, Long> {
+    @Query(
+            """
+            select new com.almonium.card.core.repository.projection.CardTranslationView(
+                t.card.id, t.id, t.translation)
+            from Translation t
+            where t.card.id in :cardIds
+            order by t.id
+            """)
+    List<CardTranslationView> findViewsByCardIds(@Param("cardIds") Collection<Long> cardIds);
+}
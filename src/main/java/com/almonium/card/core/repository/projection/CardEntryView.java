@@ -0,0 +1,11 @@
+package com.almonium.card.core.repository.projection;
+
+import com.almonium.engine.translator.model.enums.Language;
+
+public interface CardEntryView {
+    Long getId();
+
+    String getEntry();
+
+    Language getLanguage();
+}
@@ -0,0 +1,3 @@
+package com.almonium.card.core.repository.projection;
+
+public record CardExampleView(Long cardId, Long id, String example, String translation) {}
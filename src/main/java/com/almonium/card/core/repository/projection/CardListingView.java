@@ -0,0 +1,22 @@
+package com.almonium.card.core.repository.projection;
+
+import com.almonium.engine.translator.model.enums.Language;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CardListingView(
+        Long id,
+        UUID publicId,
+        Long ownerId,
+        String entry,
+        Language language,
+        String notes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        int iteration,
+        int priority,
+        int frequency,
+        boolean activeLearning,
+        boolean irregularPlural,
+        boolean irregularSpelling,
+        boolean falseFriend) {}
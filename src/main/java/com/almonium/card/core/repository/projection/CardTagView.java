@@ -0,0 +1,3 @@
+package com.almonium.card.core.repository.projection;
+
+public record CardTagView(Long cardId, String text) {}
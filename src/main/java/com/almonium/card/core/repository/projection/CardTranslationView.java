@@ -0,0 +1,3 @@
+package com.almonium.card.core.repository.projection;
+
+public record CardTranslationView(Long cardId, Long id, String translation) {}
@@ -0,0 +1,13 @@
+package com.almonium.card.core.service;
+
+import com.almonium.card.core.dto.CardAudioJobDto;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.user.core.model.entity.Learner;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CardAudioService {
+    CardAudioJobDto pregenerate(Learner learner, Language language);
+
+    Optional<CardAudioJobDto> getJob(Learner learner, UUID id);
+}
@@ -0,0 +1,12 @@
+package com.almonium.card.core.service;
+
+import com.almonium.card.core.dto.WordFrequencyDto;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.user.core.model.entity.Learner;
+import java.util.List;
+
+public interface CardFrequencyService {
+    int updateFrequencies(Learner learner);
+
+    List<WordFrequencyDto> getFrequencies(Language language, List<String> words);
+}
@@ -0,0 +1,16 @@
+package com.almonium.card.core.service;
+
+import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.core.dto.CardImportResultDto;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.user.core.model.entity.Learner;
+import java.io.InputStream;
+import java.util.Iterator;
+
+public interface CardImportService {
+    CardImportResultDto importJson(Learner learner, InputStream json);
+
+    CardImportResultDto importFile(Learner learner, InputStream file, String filename, Language language);
+
+    CardImportResultDto importCards(Learner learner, Iterator<CardCreationDto> cards);
+}
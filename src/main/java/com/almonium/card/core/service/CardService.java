@@ -1,8 +1,11 @@
 package com.almonium.card.core.service;
 
+import com.almonium.card.core.dto.CardCompletionDto;
 import com.almonium.card.core.dto.CardCreationDto;
 import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.CardPageDto;
 import com.almonium.card.core.dto.CardUpdateDto;
+import com.almonium.card.core.model.enums.CardSort;
 import com.almonium.engine.translator.model.enums.Language;
 import com.almonium.user.core.model.entity.Learner;
 import java.util.List;
@@ -14,10 +17,14 @@ public interface CardService {
 
     List<CardDto> getUsersCards(Learner learner);
 
+    CardPageDto getUsersCardsPage(Learner learner, CardSort sort, String cursor, int size);
+
     void createCard(Learner learner, CardCreationDto dto);
 
     List<CardDto> searchByEntry(String entry, Learner learner);
 
+    List<CardCompletionDto> autocomplete(String prefix, int limit, Learner learner);
+
     void updateCard(Long id, CardUpdateDto dto, Learner learner);
 
     List<CardDto> getUsersCardsOfLang(Language code, Learner user);
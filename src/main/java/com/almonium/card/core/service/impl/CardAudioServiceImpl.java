@@ -0,0 +1,199 @@
+package com.almonium.card.core.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.dto.CardAudioJobDto;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.projection.CardEntryView;
+import com.almonium.card.core.service.CardAudioService;
+import com.almonium.engine.audio.AudioStore;
+import com.almonium.engine.audio.StoredAudio;
+import com.almonium.engine.client.ExternalCallExecutor;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.TranslationService;
+import com.almonium.user.core.model.entity.Learner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pre-generates the pronunciations of a learner's cards in the background, so that studying a deck is served from
+ * the {@link AudioStore} and never waits for text-to-speech. Entries already in the store are skipped and at most
+ * {@code parallelism} synthesis calls of a job run at once. The audio of the deck is pinned in the store, so that
+ * pronunciations served to other learners do not evict it; a job first releases the pins of the learner's previous
+ * job in the language, so the audio of removed cards becomes evictable again. Jobs run one at a time; queued and
+ * running jobs are always kept, finished ones for an hour after they complete.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardAudioServiceImpl implements CardAudioService {
+    CardRepository cardRepository;
+    AudioStore audioStore;
+    TranslationService googleService;
+    ExternalCallExecutor externalCalls;
+    int parallelism;
+    ExecutorService jobRunner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "card-audio-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+    Map<UUID, Job> activeJobs = new ConcurrentHashMap<>();
+    Cache<UUID, Job> finishedJobs = CacheBuilder.newBuilder().expireAfterWrite(1, TimeUnit.HOURS).build();
+
+    public CardAudioServiceImpl(
+            CardRepository cardRepository,
+            AudioStore audioStore,
+            TranslationService googleService,
+            ExternalCallExecutor externalCalls,
+            @Value("${app.audio.jobs.parallelism}") int parallelism) {
+        this.cardRepository = cardRepository;
+        this.audioStore = audioStore;
+        this.googleService = googleService;
+        this.externalCalls = externalCalls;
+        this.parallelism = parallelism;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobRunner.shutdownNow();
+    }
+
+    @Override
+    public CardAudioJobDto pregenerate(Learner learner, Language language) {
+        Optional<Job> running = activeJobs.values().stream()
+                .filter(job -> job.learnerId.equals(learner.getId()) && job.language == language)
+                .findFirst();
+        if (running.isPresent()) {
+            return running.get().toDto();
+        }
+
+        Set<String> entries = new LinkedHashSet<>();
+        List<CardEntryView> cards = cardRepository.findEntriesByOwner(learner);
+        for (CardEntryView card : cards) {
+            if (card.getLanguage() == language && card.getEntry() != null && !card.getEntry().isBlank()) {
+                entries.add(card.getEntry().strip());
+            }
+        }
+
+        Job job = new Job(UUID.randomUUID(), learner.getId(), language, entries.size());
+        activeJobs.put(job.id, job);
+        jobRunner.execute(() -> run(job, entries));
+        return job.toDto();
+    }
+
+    @Override
+    public Optional<CardAudioJobDto> getJob(Learner learner, UUID id) {
+        Job active = activeJobs.get(id);
+        return Optional.ofNullable(active != null ? active : finishedJobs.getIfPresent(id))
+                .filter(job -> job.learnerId.equals(learner.getId()))
+                .map(Job::toDto);
+    }
+
+    private void run(Job job, Set<String> entries) {
+        job.status = CardAudioJobDto.Status.RUNNING;
+        // the same code as requested by the pronunciation endpoint, so that the audio is found there
+        String code = job.language.getSpeechCode();
+        Semaphore permits = new Semaphore(parallelism);
+        audioStore.unpin(job.pinOwner());
+        try {
+            for (String entry : entries) {
+                if (audioStore.contains(code, entry)) {
+                    job.cached.incrementAndGet();
+                    pin(job, code, entry);
+                    continue;
+                }
+                permits.acquire();
+                externalCalls
+                        .submit(Provider.GOOGLE_CLOUD, () -> synthesize(code, entry))
+                        .whenComplete((audio, ex) -> {
+                            if (ex == null) {
+                                job.synthesized.incrementAndGet();
+                                pin(job, code, entry);
+                            } else {
+                                log.warn("Failed to pre-generate audio of '{}': {}", entry, ex.toString());
+                                job.failed.incrementAndGet();
+                            }
+                            permits.release();
+                        });
+            }
+            permits.acquire(parallelism);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // moved to the finished jobs before it leaves the active ones, so that it can always be looked up,
+            // and reported as completed only then, so that a new job can be started as soon as it is
+            finishedJobs.put(job.id, job);
+            activeJobs.remove(job.id);
+            job.status = CardAudioJobDto.Status.COMPLETED;
+        }
+        log.info("Audio job {} of learner {} finished: {}", job.id, job.learnerId, job.toDto());
+        if (job.unpinned.get() > 0) {
+            log.warn("Audio job {} could not pin {} entries, they may be evicted", job.id, job.unpinned.get());
+        }
+    }
+
+    private void pin(Job job, String code, String entry) {
+        if (!audioStore.pin(job.pinOwner(), code, entry)) {
+            job.unpinned.incrementAndGet();
+        }
+    }
+
+    private StoredAudio synthesize(String code, String entry) {
+        return audioStore.get(code, entry, () -> googleService.textToSpeech(code, entry));
+    }
+
+    @FieldDefaults(level = PRIVATE)
+    private static class Job {
+        final UUID id;
+        final Long learnerId;
+        final Language language;
+        final int total;
+        final AtomicInteger synthesized = new AtomicInteger();
+        final AtomicInteger cached = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger unpinned = new AtomicInteger();
+        // queued behind other jobs until the runner picks it up
+        volatile CardAudioJobDto.Status status = CardAudioJobDto.Status.QUEUED;
+
+        Job(UUID id, Long learnerId, Language language, int total) {
+            this.id = id;
+            this.learnerId = learnerId;
+            this.language = language;
+            this.total = total;
+        }
+
+        // jobs of the same learner and language share their pins, so that a new job replaces the previous one's
+        String pinOwner() {
+            return "learner-" + learnerId + "-" + language;
+        }
+
+        CardAudioJobDto toDto() {
+            return new CardAudioJobDto(
+                    id,
+                    language,
+                    status,
+                    total,
+                    synthesized.get(),
+                    cached.get(),
+                    failed.get());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.almonium.card.core.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.dto.CardCompletionDto;
+import com.almonium.card.core.event.CardChangedEvent;
+import com.almonium.card.core.event.CardsImportedEvent;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.user.core.model.entity.Learner;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Per-learner sorted index of card entries for as-you-type completion.
+ * Entries are kept in a sorted map keyed by their folded form, so the completions of a prefix are a contiguous
+ * range found in logarithmic time. A learner's entries are loaded on first use and updated after each committed card
+ * change, see {@link LearnerIndexCache}.
+ */
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardAutocompleteIndex {
+    CardRepository cardRepository;
+    LearnerIndexCache<LearnerEntries> indexes;
+    int maxResults;
+
+    public CardAutocompleteIndex(
+            CardRepository cardRepository,
+            @Value("${app.cards.autocomplete.max-indexed-learners}") long maxIndexedLearners,
+            @Value("${app.cards.autocomplete.idle-minutes}") long idleMinutes,
+            @Value("${app.cards.autocomplete.max-results}") int maxResults) {
+        this.cardRepository = cardRepository;
+        this.indexes = new LearnerIndexCache<>(maxIndexedLearners, idleMinutes, this::load);
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Returns the learner's cards whose entry starts with the prefix, in alphabetical order of their entries.
+     */
+    public List<CardCompletionDto> complete(Learner learner, String prefix, int limit) {
+        String key = CardSearchIndex.fold(prefix.strip());
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        return indexes.get(learner).complete(key, Math.min(Math.max(limit, 1), maxResults));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener
+    public void onCardChanged(CardChangedEvent event) {
+        indexes.onCardChanged(
+                event.cardId(),
+                () -> cardRepository.findById(event.cardId()),
+                (entries, card) ->
+                        entries.put(new CardCompletionDto(card.getId(), card.getEntry(), card.getLanguage())));
+    }
+
+    @TransactionalEventListener
+    public void onCardsImported(CardsImportedEvent event) {
+        indexes.onCardsImported(event.learnerId());
+    }
+
+    private LearnerEntries load(Learner learner, CardChangeTracker.Stamp stamp) {
+        LearnerEntries entries = new LearnerEntries(stamp);
+        cardRepository
+                .findEntriesByOwner(learner)
+                .forEach(view -> entries.put(new CardCompletionDto(view.getId(), view.getEntry(), view.getLanguage())));
+        return entries;
+    }
+
+    @FieldDefaults(level = PRIVATE, makeFinal = true)
+    private static final class LearnerEntries implements LearnerIndexCache.Index {
+        CardChangeTracker.Stamp stamp;
+        ReadWriteLock lock = new ReentrantReadWriteLock();
+        NavigableMap<String, Map<Long, CardCompletionDto>> cardsByKey = new TreeMap<>();
+        Map<Long, String> keysByCard = new HashMap<>();
+
+        LearnerEntries(CardChangeTracker.Stamp stamp) {
+            this.stamp = stamp;
+        }
+
+        @Override
+        public CardChangeTracker.Stamp stamp() {
+            return stamp;
+        }
+
+        void put(CardCompletionDto card) {
+            if (card.entry() == null) {
+                remove(card.id());
+                return;
+            }
+            String key = CardSearchIndex.fold(card.entry().strip());
+            lock.writeLock().lock();
+            try {
+                removeCard(card.id());
+                keysByCard.put(card.id(), key);
+                cardsByKey.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(card.id(), card);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void remove(long cardId) {
+            lock.writeLock().lock();
+            try {
+                removeCard(cardId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<CardCompletionDto> complete(String prefix, int limit) {
+            lock.readLock().lock();
+            try {
+                // every key starting with the prefix sorts between the prefix and the prefix followed by U+FFFF
+                return cardsByKey.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values().stream()
+                        .flatMap(cards -> cards.values().stream())
+                        .limit(limit)
+                        .toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void removeCard(long cardId) {
+            String key = keysByCard.remove(cardId);
+            if (key == null) {
+                return;
+            }
+            Map<Long, CardCompletionDto> cards = cardsByKey.get(key);
+            cards.remove(cardId);
+            if (cards.isEmpty()) {
+                cardsByKey.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.almonium.card.core.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Tells whether a learner's in-memory card index missed a change committed while the index was being loaded.
+ * Every committed change takes the next number of a sequence and a load remembers the number reached when it
+ * started, so any later change may be missing from what it read. A change that finds no index for its learner is
+ * recorded as missed; a deleted card's owner is no longer known, so deletions are instead checked against the last
+ * one each index has applied.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+final class CardChangeTracker {
+    AtomicLong changes = new AtomicLong();
+    AtomicLong lastDeletion = new AtomicLong();
+    Cache<Long, Long> missedChanges;
+
+    CardChangeTracker(long maxLearners, long idleMinutes) {
+        this.missedChanges = CacheBuilder.newBuilder()
+                .maximumSize(maxLearners)
+                .expireAfterWrite(idleMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Taken before an index reads the learner's cards.
+     */
+    Stamp startLoad() {
+        return new Stamp(changes.get());
+    }
+
+    /**
+     * Numbers a committed change; must be called before looking up the index the change applies to.
+     */
+    long nextChange() {
+        return changes.incrementAndGet();
+    }
+
+    void missed(long learnerId, long change) {
+        missedChanges.asMap().merge(learnerId, change, Math::max);
+    }
+
+    void deleted(long change) {
+        lastDeletion.accumulateAndGet(change, Math::max);
+    }
+
+    boolean isStale(long learnerId, Stamp stamp) {
+        Long missed = missedChanges.getIfPresent(learnerId);
+        return (missed != null && missed > stamp.loadedAt) || lastDeletion.get() > stamp.deletionsApplied.get();
+    }
+
+    @FieldDefaults(level = PRIVATE, makeFinal = true)
+    static final class Stamp {
+        long loadedAt;
+        AtomicLong deletionsApplied;
+
+        private Stamp(long loadedAt) {
+            this.loadedAt = loadedAt;
+            this.deletionsApplied = new AtomicLong(loadedAt);
+        }
+
+        void deletionApplied(long change) {
+            deletionsApplied.accumulateAndGet(change, Math::max);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.almonium.card.core.service.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.almonium.card.core.exception.InvalidCursorException;
+import com.almonium.card.core.model.enums.CardSort;
+import com.almonium.card.core.repository.projection.CardListingView;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the card listing: the sort value, {@code updatedAt} and {@code id} of the last card of a page.
+ * Clients receive it as an opaque token and the next page starts strictly after it.
+ */
+public record CardCursor(CardSort sort, int sortValue, LocalDateTime updatedAt, long id) {
+    // later than any card, so that the first page can use the same keyset query as the rest
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final String SEPARATOR = "|";
+
+    public static CardCursor first(CardSort sort) {
+        int sortValue = sort.isDescending() ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        return new CardCursor(sort, sortValue, END_OF_TIME, Long.MAX_VALUE);
+    }
+
+    public static CardCursor after(CardSort sort, CardListingView view) {
+        return new CardCursor(sort, sort.sortValue(view), view.updatedAt(), view.id());
+    }
+
+    public static CardCursor decode(String token, CardSort sort) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), UTF_8).split("\\" + SEPARATOR);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (parts.length != 4 || !sort.name().equals(parts[0])) {
+            throw new InvalidCursorException("Cursor does not belong to the " + sort + " ordering");
+        }
+        try {
+            return new CardCursor(
+                    sort, Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(
+                SEPARATOR, sort.name(), String.valueOf(sortValue), updatedAt.toString(), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+}
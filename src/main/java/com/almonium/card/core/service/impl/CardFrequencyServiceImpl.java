@@ -0,0 +1,131 @@
+package com.almonium.card.core.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.dto.WordFrequencyDto;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.projection.CardEntryView;
+import com.almonium.card.core.service.CardFrequencyService;
+import com.almonium.engine.frequency.FrequencyIndex;
+import com.almonium.engine.frequency.FrequencyRefresher;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.user.core.model.entity.Learner;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Set;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardFrequencyServiceImpl implements CardFrequencyService {
+    private static final String UPDATE_FREQUENCY = "UPDATE card SET frequency = ? WHERE id = ?";
+    private static final int BATCH_SIZE = 500;
+    // card.frequency is an integer column, so the 0 to 10 score is stored in hundredths
+    private static final int SCORE_SCALE = 100;
+
+    CardRepository cardRepository;
+    FrequencyIndex frequencyIndex;
+    FrequencyRefresher frequencyRefresher;
+    JdbcTemplate jdbcTemplate;
+    int maxFetchedPerUpdate;
+
+    public CardFrequencyServiceImpl(
+            CardRepository cardRepository,
+            FrequencyIndex frequencyIndex,
+            FrequencyRefresher frequencyRefresher,
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.frequency.max-fetched-per-update}") int maxFetchedPerUpdate) {
+        this.cardRepository = cardRepository;
+        this.frequencyIndex = frequencyIndex;
+        this.frequencyRefresher = frequencyRefresher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxFetchedPerUpdate = maxFetchedPerUpdate;
+    }
+
+    /**
+     * Scores every card of the learner from the local frequency index and writes the scores back in JDBC batches.
+     * Up to {@code maxFetchedPerUpdate} entries missing from the index are first looked up in the Google Books Ngram
+     * corpus, which adds them to the index. Cards whose entry is still not indexed keep their current frequency;
+     * the index learns the entry on its next scheduled refresh. Runs outside a transaction, so that no database
+     * connection is held during the remote lookups; the score updates are idempotent.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int updateFrequencies(Learner learner) {
+        List<CardEntryView> cards = cardRepository.findEntriesByOwner(learner);
+        fetchMissing(cards);
+        List<Object[]> updates = new ArrayList<>(cards.size());
+        for (CardEntryView card : cards) {
+            OptionalDouble score = score(card.getEntry(), card.getLanguage());
+            if (score.isPresent()) {
+                updates.add(new Object[] {toStoredFrequency(score.getAsDouble()), card.getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate(UPDATE_FREQUENCY, updates, BATCH_SIZE, (ps, update) -> {
+            ps.setInt(1, (int) update[0]);
+            ps.setLong(2, (long) update[1]);
+        });
+        log.info("Updated frequencies of {} of {} cards of learner {}", updates.size(), cards.size(), learner.getId());
+        return updates.size();
+    }
+
+    @Override
+    public List<WordFrequencyDto> getFrequencies(Language language, List<String> words) {
+        return words.stream()
+                .map(word -> {
+                    OptionalDouble score = score(word, language);
+                    return new WordFrequencyDto(word, score.isPresent() ? score.getAsDouble() : null);
+                })
+                .toList();
+    }
+
+    private void fetchMissing(List<CardEntryView> cards) {
+        Map<Language, Set<String>> missing = new EnumMap<>(Language.class);
+        int remaining = maxFetchedPerUpdate;
+        for (CardEntryView card : cards) {
+            if (remaining == 0) {
+                break;
+            }
+            String entry = card.getEntry();
+            Language language = card.getLanguage();
+            if (entry != null
+                    && language != null
+                    && !entry.isBlank()
+                    && !frequencyIndex.contains(entry, language)
+                    && missing.computeIfAbsent(language, l -> new LinkedHashSet<>()).add(entry.strip())) {
+                remaining--;
+            }
+        }
+        missing.forEach((language, words) -> {
+            try {
+                frequencyRefresher.refresh(language, words);
+            } catch (UncheckedIOException e) {
+                log.warn("Failed to add {} frequencies to the index: {}", language, e.toString());
+            }
+        });
+    }
+
+    private OptionalDouble score(String entry, Language language) {
+        if (entry == null || language == null) {
+            return OptionalDouble.empty();
+        }
+        return frequencyIndex.score(entry, language);
+    }
+
+    private static int toStoredFrequency(double score) {
+        return (int) Math.round(score * SCORE_SCALE);
+    }
+}
@@ -0,0 +1,208 @@
+package com.almonium.card.core.service.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.core.dto.CardImportResultDto;
+import com.almonium.card.core.dto.TagDto;
+import com.almonium.card.core.event.CardsImportedEvent;
+import com.almonium.card.core.exception.InvalidCardImportException;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.model.entity.CardTag;
+import com.almonium.card.core.model.entity.Example;
+import com.almonium.card.core.model.entity.Tag;
+import com.almonium.card.core.model.entity.Translation;
+import com.almonium.card.core.repository.TagRepository;
+import com.almonium.card.core.service.CardImportService;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.user.core.model.entity.Learner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Imports decks of cards in chunks. Cards are read lazily from the request, each chunk resolves all of its tags
+ * in one query, and its rows are persisted directly so that Hibernate sends them as JDBC batches: the ids come
+ * from pooled sequences, so no insert has to wait for a generated key. The persistence context is flushed and
+ * cleared after each chunk to keep memory flat whatever the size of the deck.
+ */
+@Slf4j
+@Service
+@Transactional
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardImportServiceImpl implements CardImportService {
+    EntityManager entityManager;
+    TagRepository tagRepository;
+    ApplicationEventPublisher eventPublisher;
+    ObjectMapper objectMapper;
+    int batchSize;
+
+    public CardImportServiceImpl(
+            EntityManager entityManager,
+            TagRepository tagRepository,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${app.cards.import.batch-size}") int batchSize) {
+        this.entityManager = entityManager;
+        this.tagRepository = tagRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public CardImportResultDto importJson(Learner learner, InputStream json) {
+        try {
+            return importCards(learner, objectMapper.readerFor(CardCreationDto.class).readValues(json));
+        } catch (IOException | RuntimeJsonMappingException e) {
+            throw new InvalidCardImportException("Cards must be a JSON array of cards: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public CardImportResultDto importFile(Learner learner, InputStream file, String filename, Language language) {
+        char separator = filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".csv") ? ',' : '\t';
+        BufferedReader reader = new BufferedReader(new InputStreamReader(file, UTF_8));
+        try {
+            return importCards(learner, new DelimitedCardReader(reader, separator, language));
+        } catch (UncheckedIOException e) {
+            throw new InvalidCardImportException("Failed to read the card file", e);
+        }
+    }
+
+    @Override
+    public CardImportResultDto importCards(Learner learner, Iterator<CardCreationDto> cards) {
+        long start = System.currentTimeMillis();
+        int imported = 0;
+        int skipped = 0;
+        List<CardCreationDto> chunk = new ArrayList<>(batchSize);
+        while (cards.hasNext()) {
+            CardCreationDto card = cards.next();
+            if (!isImportable(card)) {
+                skipped++;
+                continue;
+            }
+            chunk.add(card);
+            if (chunk.size() == batchSize) {
+                imported += saveChunk(learner.getId(), chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += saveChunk(learner.getId(), chunk);
+        }
+        eventPublisher.publishEvent(new CardsImportedEvent(learner.getId()));
+        log.info(
+                "Imported {} cards for learner {} in {} ms, skipped {}",
+                imported,
+                learner.getId(),
+                System.currentTimeMillis() - start,
+                skipped);
+        return new CardImportResultDto(imported, skipped);
+    }
+
+    private int saveChunk(Long learnerId, List<CardCreationDto> chunk) {
+        // a reference is enough to set foreign keys and stays valid across the clear below
+        Learner owner = entityManager.getReference(Learner.class, learnerId);
+        Map<String, Tag> tags = resolveTags(chunk);
+        LocalDateTime now = LocalDateTime.now();
+        for (CardCreationDto dto : chunk) {
+            Card card = Card.builder()
+                    .entry(dto.getEntry().strip())
+                    .language(Language.valueOf(dto.getLanguage()))
+                    .notes(dto.getNotes())
+                    .owner(owner)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .activeLearning(dto.isActiveLearning())
+                    .irregularPlural(dto.isIrregularPlural())
+                    .irregularSpelling(dto.isIrregularSpelling())
+                    .falseFriend(dto.isFalseFriend())
+                    .learnt(dto.isLearnt())
+                    .build();
+            if (dto.getPriority() != null) {
+                card.setPriority(dto.getPriority());
+            }
+            entityManager.persist(card);
+            stream(dto.getTranslations()).forEach(translation -> entityManager.persist(Translation.builder()
+                    .card(card)
+                    .translation(translation.getTranslation())
+                    .build()));
+            stream(dto.getExamples()).forEach(example -> entityManager.persist(Example.builder()
+                    .card(card)
+                    .example(example.getExample())
+                    .translation(example.getTranslation())
+                    .build()));
+            tagTexts(dto).forEach(text -> entityManager.persist(CardTag.builder()
+                    .card(card)
+                    .tag(tags.get(text))
+                    .learner(owner)
+                    .build()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return chunk.size();
+    }
+
+    private Map<String, Tag> resolveTags(List<CardCreationDto> chunk) {
+        Set<String> texts = chunk.stream().flatMap(this::tagTexts).collect(Collectors.toSet());
+        if (texts.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Tag> tags = new HashMap<>(tagRepository.findAllByTextIn(texts).stream()
+                .collect(Collectors.toMap(Tag::getText, Function.identity())));
+        for (String text : texts) {
+            tags.computeIfAbsent(text, missing -> {
+                Tag tag = new Tag(missing);
+                entityManager.persist(tag);
+                return tag;
+            });
+        }
+        return tags;
+    }
+
+    // normalized and distinct, since a card can carry a tag only once
+    private Stream<String> tagTexts(CardCreationDto dto) {
+        return stream(dto.getTags())
+                .map(TagDto::getText)
+                .filter(text -> text != null && !text.isBlank())
+                .map(Tag::normalizeText)
+                .distinct();
+    }
+
+    private static boolean isImportable(CardCreationDto dto) {
+        if (dto == null || dto.getEntry() == null || dto.getEntry().isBlank() || dto.getLanguage() == null) {
+            return false;
+        }
+        return Arrays.stream(Language.values()).anyMatch(language -> language.name().equals(dto.getLanguage()));
+    }
+
+    private static <T> Stream<T> stream(T[] values) {
+        return values == null ? Stream.empty() : Arrays.stream(values).filter(Objects::nonNull);
+    }
+}
@@ -0,0 +1,259 @@
+package com.almonium.card.core.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.event.CardChangedEvent;
+import com.almonium.card.core.event.CardsImportedEvent;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.user.core.model.entity.Learner;
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory search index over the cards of recently active learners.
+ * Every word of a card's entry, translations, examples and notes is indexed by its character trigrams, so a query
+ * word also matches card words that share enough trigrams with it, which tolerates typos and inflected forms.
+ * Matches are ranked by trigram similarity weighted by the field the word comes from.
+ * A learner's index is loaded on their first search and then updated card by card after each committed change
+ * (see {@link LearnerIndexCache}), so search time follows the size of the learner's vocabulary instead of scanning
+ * their cards.
+ * A query word also matches every card word it is a prefix of, since a word of two or three letters shares too few
+ * trigrams with longer words to reach the similarity threshold.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardSearchIndex {
+    private static final double ENTRY_WEIGHT = 3;
+    private static final double TRANSLATION_WEIGHT = 2;
+    private static final double TEXT_WEIGHT = 1;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    CardRepository cardRepository;
+    LearnerIndexCache<LearnerIndex> indexes;
+    int maxResults;
+    double minSimilarity;
+
+    public CardSearchIndex(
+            CardRepository cardRepository,
+            @Value("${app.cards.search.max-indexed-learners}") long maxIndexedLearners,
+            @Value("${app.cards.search.idle-minutes}") long idleMinutes,
+            @Value("${app.cards.search.max-results}") int maxResults,
+            @Value("${app.cards.search.min-similarity}") double minSimilarity) {
+        this.cardRepository = cardRepository;
+        this.indexes = new LearnerIndexCache<>(maxIndexedLearners, idleMinutes, this::load);
+        this.maxResults = maxResults;
+        this.minSimilarity = minSimilarity;
+    }
+
+    /**
+     * Returns the ids of the learner's best matching cards, best first.
+     * Must be called in a transaction, since the learner's index is loaded from the database on first use.
+     */
+    public List<Long> search(Learner learner, String query) {
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        return indexes.get(learner).search(words, minSimilarity, maxResults);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener
+    public void onCardChanged(CardChangedEvent event) {
+        indexes.onCardChanged(event.cardId(), () -> cardRepository.findById(event.cardId()), (index, card) -> {
+            cardRepository.fetchDetails(List.of(card));
+            index.put(card.getId(), terms(card));
+        });
+    }
+
+    // dropped rather than updated card by card, the next search loads the learner's cards in four queries
+    @TransactionalEventListener
+    public void onCardsImported(CardsImportedEvent event) {
+        indexes.onCardsImported(event.learnerId());
+    }
+
+    private LearnerIndex load(Learner learner, CardChangeTracker.Stamp stamp) {
+        long start = System.currentTimeMillis();
+        LearnerIndex index = new LearnerIndex(stamp);
+        List<Card> cards = cardRepository.findAllByOwner(learner);
+        cardRepository.fetchDetails(cards);
+        cards.forEach(card -> index.put(card.getId(), terms(card)));
+        log.debug(
+                "Indexed {} cards of learner {} in {} ms",
+                cards.size(),
+                learner.getId(),
+                System.currentTimeMillis() - start);
+        return index;
+    }
+
+    private static Map<String, Double> terms(Card card) {
+        Map<String, Double> terms = new HashMap<>();
+        addWords(terms, card.getEntry(), ENTRY_WEIGHT);
+        addWords(terms, card.getNotes(), TEXT_WEIGHT);
+        if (card.getTranslations() != null) {
+            card.getTranslations()
+                    .forEach(translation -> addWords(terms, translation.getTranslation(), TRANSLATION_WEIGHT));
+        }
+        if (card.getExamples() != null) {
+            card.getExamples().forEach(example -> {
+                addWords(terms, example.getExample(), TEXT_WEIGHT);
+                addWords(terms, example.getTranslation(), TEXT_WEIGHT);
+            });
+        }
+        return terms;
+    }
+
+    private static void addWords(Map<String, Double> terms, String text, double weight) {
+        words(text).forEach(word -> terms.merge(word, weight, Math::max));
+    }
+
+    // lower case with diacritics stripped, so that "Café" and "cafe" are the same word
+    static String fold(String text) {
+        return MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return NON_WORD.splitAsStream(fold(text))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    // padded like PostgreSQL's pg_trgm, so that word beginnings weigh more than their middles
+    private static Set<String> trigrams(String word) {
+        String padded = "  " + word + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    @FieldDefaults(level = PRIVATE, makeFinal = true)
+    private static final class LearnerIndex implements LearnerIndexCache.Index {
+        CardChangeTracker.Stamp stamp;
+        ReadWriteLock lock = new ReentrantReadWriteLock();
+        Map<Long, Map<String, Double>> termsByCard = new HashMap<>();
+        Map<String, Map<Long, Double>> postings = new HashMap<>();
+        Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+        LearnerIndex(CardChangeTracker.Stamp stamp) {
+            this.stamp = stamp;
+        }
+
+        @Override
+        public CardChangeTracker.Stamp stamp() {
+            return stamp;
+        }
+
+        void put(long cardId, Map<String, Double> terms) {
+            lock.writeLock().lock();
+            try {
+                removeCard(cardId);
+                termsByCard.put(cardId, terms);
+                terms.forEach((word, weight) -> postings.computeIfAbsent(word, this::addWord).put(cardId, weight));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void remove(long cardId) {
+            lock.writeLock().lock();
+            try {
+                removeCard(cardId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Scores each card by the sum, over the query words, of its best matching word's similarity times weight.
+         * Words starting with the query word match whatever their similarity.
+         */
+        List<Long> search(List<String> queryWords, double minSimilarity, int limit) {
+            lock.readLock().lock();
+            try {
+                Map<Long, Double> scores = new HashMap<>();
+                for (String queryWord : queryWords) {
+                    Set<String> queryTrigrams = trigrams(queryWord);
+                    Map<String, Integer> sharedTrigrams = new HashMap<>();
+                    for (String trigram : queryTrigrams) {
+                        for (String word : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                            sharedTrigrams.merge(word, 1, Integer::sum);
+                        }
+                    }
+                    Map<Long, Double> bestMatches = new HashMap<>();
+                    sharedTrigrams.forEach((word, shared) -> {
+                        double similarity = (double) shared / (queryTrigrams.size() + trigrams(word).size() - shared);
+                        if (similarity >= minSimilarity || word.startsWith(queryWord)) {
+                            postings.get(word).forEach((cardId, weight) -> bestMatches.merge(
+                                    cardId, similarity * weight, Math::max));
+                        }
+                    });
+                    bestMatches.forEach((cardId, score) -> scores.merge(cardId, score, Double::sum));
+                }
+                return scores.entrySet().stream()
+                        .sorted(Map.Entry.<Long, Double>comparingByValue()
+                                .reversed()
+                                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                        .limit(limit)
+                        .map(Map.Entry::getKey)
+                        .toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private Map<Long, Double> addWord(String word) {
+            trigrams(word).forEach(trigram ->
+                    wordsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(word));
+            return new HashMap<>();
+        }
+
+        private void removeCard(long cardId) {
+            Map<String, Double> terms = termsByCard.remove(cardId);
+            if (terms == null) {
+                return;
+            }
+            for (String word : terms.keySet()) {
+                Map<Long, Double> cards = postings.get(word);
+                cards.remove(cardId);
+                if (cards.isEmpty()) {
+                    postings.remove(word);
+                    for (String trigram : trigrams(word)) {
+                        Set<String> words = wordsByTrigram.get(trigram);
+                        words.remove(word);
+                        if (words.isEmpty()) {
+                            wordsByTrigram.remove(trigram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.almonium.card.core.service.impl;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
 import static lombok.AccessLevel.PRIVATE;
 
+import com.almonium.card.core.dto.CardCompletionDto;
 import com.almonium.card.core.dto.CardCreationDto;
 import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.CardPageDto;
 import com.almonium.card.core.dto.CardUpdateDto;
+import com.almonium.card.core.dto.ExampleDto;
 import com.almonium.card.core.dto.TagDto;
+import com.almonium.card.core.dto.TranslationDto;
+import com.almonium.card.core.event.CardChangedEvent;
 import com.almonium.card.core.mapper.CardMapper;
 import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.core.model.entity.CardTag;
@@ -13,11 +21,16 @@ import com.almonium.card.core.model.entity.Example;
 import com.almonium.card.core.model.entity.Tag;
 import com.almonium.card.core.model.entity.Translation;
 import com.almonium.card.core.model.entity.pk.CardTagPK;
+import com.almonium.card.core.model.enums.CardSort;
 import com.almonium.card.core.repository.CardRepository;
 import com.almonium.card.core.repository.CardTagRepository;
 import com.almonium.card.core.repository.ExampleRepository;
 import com.almonium.card.core.repository.TagRepository;
 import com.almonium.card.core.repository.TranslationRepository;
+import com.almonium.card.core.repository.projection.CardExampleView;
+import com.almonium.card.core.repository.projection.CardListingView;
+import com.almonium.card.core.repository.projection.CardTagView;
+import com.almonium.card.core.repository.projection.CardTranslationView;
 import com.almonium.card.core.service.CardService;
 import com.almonium.engine.translator.model.enums.Language;
 import com.almonium.user.core.model.entity.Learner;
@@ -28,14 +41,21 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -44,6 +64,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @FieldDefaults(level = PRIVATE, makeFinal = true)
 public class CardServiceImpl implements CardService {
+    private static final int MAX_PAGE_SIZE = 200;
+
     CardRepository cardRepository;
     CardTagRepository cardTagRepository;
     TagRepository tagRepository;
@@ -51,6 +73,9 @@ public class CardServiceImpl implements CardService {
     TranslationRepository translationRepository;
     LearnerRepository learnerRepository;
     CardMapper cardMapper;
+    CardSearchIndex cardSearchIndex;
+    CardAutocompleteIndex cardAutocompleteIndex;
+    ApplicationEventPublisher eventPublisher;
 
     @Override
     public CardDto getCardById(Long id) {
@@ -65,27 +90,72 @@ public class CardServiceImpl implements CardService {
 
     @Override
     public List<CardDto> getUsersCards(Learner learner) {
-        return cardRepository.findAllByOwner(learner).stream()
-                .map(cardMapper::cardEntityToDto)
-                .collect(Collectors.toList());
+        return toDtos(cardRepository.findAllByOwner(learner));
+    }
+
+    /**
+     * Reads one page in four queries whatever its size: the card rows, then the translations, examples and tags
+     * of all cards of the page at once.
+     */
+    @Override
+    public CardPageDto getUsersCardsPage(Learner learner, CardSort sort, String cursor, int size) {
+        CardCursor after =
+                cursor == null || cursor.isBlank() ? CardCursor.first(sort) : CardCursor.decode(cursor, sort);
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // one extra row tells whether another page follows
+        List<CardListingView> rows = findPage(learner, after, PageRequest.ofSize(limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<CardListingView> page = hasNext ? rows.subList(0, limit) : rows;
+        if (page.isEmpty()) {
+            return new CardPageDto(List.of(), null);
+        }
+
+        List<Long> ids = page.stream().map(CardListingView::id).toList();
+        Map<Long, List<TranslationDto>> translations = translationRepository.findViewsByCardIds(ids).stream()
+                .collect(groupingBy(
+                        CardTranslationView::cardId,
+                        mapping(view -> new TranslationDto(view.id(), view.translation()), toList())));
+        Map<Long, List<ExampleDto>> examples = exampleRepository.findViewsByCardIds(ids).stream()
+                .collect(groupingBy(
+                        CardExampleView::cardId,
+                        mapping(view -> new ExampleDto(view.id(), view.example(), view.translation()), toList())));
+        Map<Long, List<TagDto>> tags = cardTagRepository.findViewsByCardIds(ids).stream()
+                .collect(groupingBy(CardTagView::cardId, mapping(view -> new TagDto(view.text()), toList())));
+
+        List<CardDto> cards = page.stream()
+                .map(view -> toDto(
+                        view,
+                        translations.getOrDefault(view.id(), List.of()),
+                        examples.getOrDefault(view.id(), List.of()),
+                        tags.getOrDefault(view.id(), List.of())))
+                .toList();
+        String nextCursor = hasNext ? CardCursor.after(sort, page.get(page.size() - 1)).encode() : null;
+        return new CardPageDto(cards, nextCursor);
     }
 
     @Override
     public List<CardDto> getUsersCardsOfLang(Language language, Learner learner) {
-        return cardRepository.findAllByOwnerAndLanguage(learner, language).stream()
-                .map(cardMapper::cardEntityToDto)
-                .collect(Collectors.toList());
+        return toDtos(cardRepository.findAllByOwnerAndLanguage(learner, language));
     }
 
     @Override
     @Transactional
     public List<CardDto> searchByEntry(String entry, Learner learner) {
-        return cardRepository
-                .findAllByOwnerAndEntryLikeIgnoreCase(
-                        learner, '%' + entry.trim().toLowerCase() + '%')
-                .stream()
-                .map(cardMapper::cardEntityToDto)
-                .collect(Collectors.toList());
+        List<Long> ids = cardSearchIndex.search(learner, entry);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Card> cards =
+                cardRepository.findAllById(ids).stream().collect(Collectors.toMap(Card::getId, Function.identity()));
+        // keep the ranking of the index
+        return toDtos(ids.stream().map(cards::get).filter(Objects::nonNull).toList());
+    }
+
+    // served from memory on every keystroke; only a first lookup reads the entries, in the repository's own transaction
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CardCompletionDto> autocomplete(String prefix, int limit, Learner learner) {
+        return cardAutocompleteIndex.complete(learner, prefix, limit);
     }
 
     @Override
@@ -94,6 +164,7 @@ public class CardServiceImpl implements CardService {
         Card card = initializeCard(learner, dto);
         List<CardTag> cardTags = createCardTags(card, dto.getTags());
         saveEntities(card, card.getTranslations(), card.getExamples(), cardTags, learner);
+        eventPublisher.publishEvent(new CardChangedEvent(card.getId()));
         log.info("Created card {} for user {}", card, learner);
     }
 
@@ -105,12 +176,55 @@ public class CardServiceImpl implements CardService {
         updateTags(entity, dto.getTags(), learner);
         entity.setUpdatedAt(LocalDateTime.now());
         cardRepository.save(entity);
+        eventPublisher.publishEvent(new CardChangedEvent(entity.getId()));
     }
 
     @Override
     @Transactional
     public void deleteById(Long id) {
         cardRepository.deleteById(id);
+        eventPublisher.publishEvent(new CardChangedEvent(id));
+    }
+
+    private List<CardDto> toDtos(List<Card> cards) {
+        cardRepository.fetchDetails(cards);
+        return cards.stream().map(cardMapper::cardEntityToDto).collect(Collectors.toList());
+    }
+
+    private List<CardListingView> findPage(Learner learner, CardCursor after, Pageable pageable) {
+        return switch (after.sort()) {
+            case UPDATED -> cardRepository.findPageByUpdated(learner, after.updatedAt(), after.id(), pageable);
+            case PRIORITY -> cardRepository.findPageByPriority(
+                    learner, after.sortValue(), after.updatedAt(), after.id(), pageable);
+            case FREQUENCY -> cardRepository.findPageByFrequency(
+                    learner, after.sortValue(), after.updatedAt(), after.id(), pageable);
+            case ITERATION -> cardRepository.findPageByIteration(
+                    learner, after.sortValue(), after.updatedAt(), after.id(), pageable);
+        };
+    }
+
+    private static CardDto toDto(
+            CardListingView view, List<TranslationDto> translations, List<ExampleDto> examples, List<TagDto> tags) {
+        return CardDto.builder()
+                .id(view.id())
+                .publicId(view.publicId().toString())
+                .userId(view.ownerId())
+                .entry(view.entry())
+                .language(view.language() != null ? view.language().name() : null)
+                .translations(translations.toArray(TranslationDto[]::new))
+                .notes(view.notes())
+                .tags(tags.toArray(TagDto[]::new))
+                .examples(examples.toArray(ExampleDto[]::new))
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .iteration(view.iteration())
+                .priority(view.priority())
+                .frequency(view.frequency())
+                .activeLearning(view.activeLearning())
+                .irregularPlural(view.irregularPlural())
+                .irregularSpelling(view.irregularSpelling())
+                .falseFriend(view.falseFriend())
+                .build();
     }
 
     private Card initializeCard(Learner learner, CardCreationDto dto) {
@@ -0,0 +1,134 @@
+package com.almonium.card.core.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.core.dto.TagDto;
+import com.almonium.card.core.dto.TranslationDto;
+import com.almonium.engine.translator.model.enums.Language;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Reads cards one line at a time from a CSV file or a plain text export of Anki notes.
+ * Each line holds the entry, then the translations separated by semicolons, then tags separated by spaces.
+ * Fields may be quoted with double quotes. Lines starting with {@code #} are headers, of which Anki's
+ * {@code #separator:} is honoured.
+ */
+@FieldDefaults(level = PRIVATE)
+final class DelimitedCardReader implements Iterator<CardCreationDto> {
+    private static final String SEPARATOR_HEADER = "#separator:";
+    private static final Map<String, Character> SEPARATORS =
+            Map.of("tab", '\t', "comma", ',', "semicolon", ';', "pipe", '|', "space", ' ');
+
+    final BufferedReader reader;
+    final Language language;
+    char separator;
+    CardCreationDto next;
+
+    DelimitedCardReader(BufferedReader reader, char separator, Language language) {
+        this.reader = reader;
+        this.separator = separator;
+        this.language = language;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readCard();
+        }
+        return next != null;
+    }
+
+    @Override
+    public CardCreationDto next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CardCreationDto card = next;
+        next = null;
+        return card;
+    }
+
+    private CardCreationDto readCard() {
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.startsWith(SEPARATOR_HEADER)) {
+                separator = SEPARATORS.getOrDefault(
+                        line.substring(SEPARATOR_HEADER.length()).strip().toLowerCase(Locale.ROOT), separator);
+            } else if (!line.isBlank() && !line.startsWith("#")) {
+                return toCard(split(line, separator));
+            }
+        }
+        return null;
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CardCreationDto toCard(List<String> fields) {
+        CardCreationDto card = new CardCreationDto();
+        card.setEntry(fields.get(0));
+        card.setLanguage(language.name());
+        card.setActiveLearning(true);
+        card.setTranslations(field(fields, 1, ";")
+                .map(translation -> new TranslationDto(null, translation))
+                .toArray(TranslationDto[]::new));
+        card.setTags(field(fields, 2, " ").map(TagDto::new).toArray(TagDto[]::new));
+        return card;
+    }
+
+    private static Stream<String> field(List<String> fields, int index, String delimiter) {
+        if (fields.size() <= index) {
+            return Stream.empty();
+        }
+        return Arrays.stream(fields.get(index).split(delimiter))
+                .map(String::strip)
+                .filter(value -> !value.isEmpty());
+    }
+
+    // splits one line, honouring double-quoted fields and "" as an escaped quote
+    static List<String> split(String line, char separator) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.toString().isBlank()) {
+                quoted = true;
+                field.setLength(0);
+            } else if (c == separator) {
+                fields.add(field.toString().strip());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().strip());
+        return fields;
+    }
+}
@@ -0,0 +1,103 @@
+package com.almonium.card.core.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.user.core.model.entity.Learner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Holds in-memory card indexes of recently active learners and keeps them in step with committed card changes.
+ * A learner's index is loaded on first use, updated card by card after each change and dropped once the learner has
+ * been idle for a while. An index that missed a change committed while it was loading is loaded again on its next
+ * use, see {@link CardChangeTracker}.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+final class LearnerIndexCache<T extends LearnerIndexCache.Index> {
+    Cache<Long, T> indexes;
+    CardChangeTracker changeTracker;
+    BiFunction<Learner, CardChangeTracker.Stamp, T> loader;
+
+    /**
+     * @param loader reads the learner's cards into a new index carrying the given stamp
+     */
+    LearnerIndexCache(long maxLearners, long idleMinutes, BiFunction<Learner, CardChangeTracker.Stamp, T> loader) {
+        this.indexes = CacheBuilder.newBuilder()
+                .maximumSize(maxLearners)
+                .expireAfterAccess(idleMinutes, TimeUnit.MINUTES)
+                .build();
+        this.changeTracker = new CardChangeTracker(maxLearners, idleMinutes);
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the learner's index, loading it if it is missing or missed a change.
+     */
+    T get(Learner learner) {
+        T index = getOrLoad(learner);
+        if (changeTracker.isStale(learner.getId(), index.stamp())) {
+            indexes.asMap().remove(learner.getId(), index);
+            index = getOrLoad(learner);
+        }
+        return index;
+    }
+
+    /**
+     * Applies a committed change to the index of the card's owner, if it is loaded. A card the reader no longer
+     * finds was deleted and is removed from every index, since its owner is not known anymore.
+     */
+    void onCardChanged(long cardId, Supplier<Optional<Card>> reader, BiConsumer<T, Card> update) {
+        long change = changeTracker.nextChange();
+        Optional<Card> card = reader.get();
+        if (card.isEmpty()) {
+            changeTracker.deleted(change);
+            indexes.asMap().values().forEach(index -> {
+                index.remove(cardId);
+                index.stamp().deletionApplied(change);
+            });
+            return;
+        }
+        long learnerId = card.get().getOwner().getId();
+        T index = indexes.getIfPresent(learnerId);
+        if (index == null) {
+            changeTracker.missed(learnerId, change);
+            return;
+        }
+        update.accept(index, card.get());
+    }
+
+    // an import touches too many cards to apply one by one, the index is loaded again on its next use instead
+    void onCardsImported(long learnerId) {
+        changeTracker.missed(learnerId, changeTracker.nextChange());
+        indexes.invalidate(learnerId);
+    }
+
+    @SneakyThrows
+    private T getOrLoad(Learner learner) {
+        try {
+            return indexes.get(learner.getId(), () -> loader.apply(learner, changeTracker.startLoad()));
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * A learner's index as seen by the cache.
+     */
+    interface Index {
+        CardChangeTracker.Stamp stamp();
+
+        void remove(long cardId);
+    }
+}
@@ -4,6 +4,7 @@ import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.suggestion.model.entity.CardSuggestion;
 import com.almonium.user.core.model.entity.Learner;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,5 +12,6 @@ import org.springframework.stereotype.Repository;
 public interface CardSuggestionRepository extends JpaRepository<CardSuggestion, Long> {
     CardSuggestion getBySenderAndRecipientAndCard(Learner sender, Learner recipient, Card card);
 
+    @EntityGraph(attributePaths = {"card", "sender"})
     List<CardSuggestion> getByRecipient(Learner recipient);
 }
@@ -3,6 +3,7 @@ package com.almonium.card.suggestion.service.impl;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.event.CardChangedEvent;
 import com.almonium.card.core.mapper.CardMapper;
 import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.core.model.entity.Example;
@@ -23,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,10 +40,13 @@ public class CardSuggestionServiceImpl implements CardSuggestionService {
     TranslationRepository translationRepository;
     LearnerRepository learnerRepository;
     CardMapper cardMapper;
+    ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<CardDto> getSuggestedCards(Learner user) {
-        return cardSuggestionRepository.getByRecipient(user).stream()
+        List<CardSuggestion> suggestions = cardSuggestionRepository.getByRecipient(user);
+        cardRepository.fetchDetails(suggestions.stream().map(CardSuggestion::getCard).toList());
+        return suggestions.stream()
                 .map(sug -> {
                     CardDto dto = cardMapper.cardEntityToDto(sug.getCard());
                     dto.setUserId(sug.getSender().getId());
@@ -94,6 +99,7 @@ public class CardSuggestionServiceImpl implements CardSuggestionService {
         translationRepository.saveAll(translations);
         exampleRepository.saveAll(examples);
         learnerRepository.save(user);
+        eventPublisher.publishEvent(new CardChangedEvent(card.getId()));
         log.info("Cloned card {} for user {}", card, user);
     }
 
@@ -7,9 +7,14 @@ import com.almonium.auth.local.exception.EmailNotFoundException;
 import com.almonium.auth.local.exception.EmailNotVerifiedException;
 import com.almonium.auth.local.exception.InvalidTokenException;
 import com.almonium.auth.local.exception.UserAlreadyExistsException;
+import com.almonium.card.core.exception.InvalidCardImportException;
+import com.almonium.card.core.exception.InvalidCursorException;
+import com.almonium.engine.analyzer.exception.NlpPipelineUnavailableException;
+import com.almonium.engine.client.exception.ProviderUnavailableException;
 import com.almonium.user.core.exception.NoPrincipalsFoundException;
 import com.almonium.user.friendship.exception.FriendshipNotAllowedException;
 import com.almonium.util.dto.ApiResponse;
+import jakarta.validation.ConstraintViolationException;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -65,6 +70,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(false, errorMessage));
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ApiResponse> handleConstraintViolationException(ConstraintViolationException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(false, ex.getMessage()));
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ApiResponse> handleNoResourceFoundException(NoResourceFoundException ignored) {
         return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -128,4 +138,26 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse> handleLastAuthMethodException(LastAuthMethodException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(false, ex.getMessage()));
     }
+
+    // card
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(false, ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidCardImportException.class)
+    public ResponseEntity<ApiResponse> handleInvalidCardImportException(InvalidCardImportException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(false, ex.getMessage()));
+    }
+
+    // engine
+    @ExceptionHandler(NlpPipelineUnavailableException.class)
+    public ResponseEntity<ApiResponse> handleNlpPipelineUnavailableException(NlpPipelineUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ApiResponse(false, ex.getMessage()));
+    }
+
+    @ExceptionHandler(ProviderUnavailableException.class)
+    public ResponseEntity<ApiResponse> handleProviderUnavailableException(ProviderUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ApiResponse(false, ex.getMessage()));
+    }
 }
@@ -1,19 +1,39 @@
 package com.almonium.config;
 
+import com.almonium.engine.client.GzipDecompressingInterceptor;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * The single HTTP transport shared by all external clients. The JDK client keeps pooled keep-alive connections
+ * per host and negotiates HTTP/2 where the provider supports it, so repeated lookups skip the TLS handshake.
+ */
 @Configuration
 public class RestTemplateConfig {
     @Bean
-    public RestTemplate getRestTemplate() {
-        return new RestTemplate();
+    public HttpClient httpClient(@Value("${app.http.connect-timeout-millis}") long connectTimeoutMillis) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
     }
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            HttpClient httpClient,
+            @Value("${app.http.read-timeout-millis}") long readTimeoutMillis) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        return builder.requestFactory(() -> requestFactory)
+                .additionalInterceptors(new GzipDecompressingInterceptor())
+                .build();
     }
 }
@@ -0,0 +1,35 @@
+package com.almonium.config;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * The non-blocking counterpart of {@link RestTemplateConfig}, used by the reactive variants of the external clients.
+ * Requests share Reactor Netty's event loops and connection pool, so in-flight lookups do not hold a thread each.
+ */
+@Configuration
+public class WebClientConfig {
+    // provider dictionary entries can exceed the 256 KB default of the JSON decoder
+    private static final int MAX_IN_MEMORY_SIZE = 2 * 1024 * 1024;
+
+    @Bean
+    public WebClient webClient(
+            WebClient.Builder builder,
+            @Value("${app.http.connect-timeout-millis}") int connectTimeoutMillis,
+            @Value("${app.http.read-timeout-millis}") long readTimeoutMillis) {
+        HttpClient httpClient = HttpClient.create()
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(readTimeoutMillis))
+                .followRedirect(true);
+        return builder.clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                .build();
+    }
+}
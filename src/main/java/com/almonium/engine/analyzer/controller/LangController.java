@@ -7,16 +7,28 @@ import com.almonium.auth.common.model.entity.Principal;
 import com.almonium.card.core.dto.CardDto;
 import com.almonium.card.core.service.CardService;
 import com.almonium.engine.analyzer.dto.AnalysisDto;
+import com.almonium.engine.analyzer.dto.BatchAnalysisRequest;
+import com.almonium.engine.analyzer.dto.TextAnalysisDto;
 import com.almonium.engine.analyzer.service.LanguageProcessor;
+import com.almonium.engine.audio.StoredAudio;
+import com.almonium.engine.audio.service.SpeechStreamService;
 import com.almonium.engine.client.words.dto.WordsReportDto;
 import com.almonium.engine.translator.dto.MLTranslationCard;
 import com.almonium.engine.translator.dto.TranslationCardDto;
 import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.BulkTranslationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,14 +38,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/lang")
 @RequiredArgsConstructor
 @FieldDefaults(level = PRIVATE, makeFinal = true)
 public class LangController {
+    // audio is content-addressed, so a given URL and ETag always serve the same bytes
+    private static final Duration AUDIO_MAX_AGE = Duration.ofDays(365);
+    private static final String AUDIO_MPEG = "audio/mpeg";
+
     CardService cardService;
     LanguageProcessor languageProcessor;
+    BulkTranslationService bulkTranslationService;
+    SpeechStreamService speechStreamService;
+    ObjectMapper objectMapper;
 
     @GetMapping("/cards/search/{text}")
     public ResponseEntity<List<CardDto>> search(@PathVariable String text, @Auth Principal auth) {
@@ -52,6 +73,26 @@ public class LangController {
         return ResponseEntity.ok(languageProcessor.bulkTranslate(text, Language.valueOf(langTo)));
     }
 
+    /**
+     * Streams the translation as newline-delimited JSON segments, in source order, while the text is still being read.
+     */
+    @PostMapping(value = "/translations/{langTo}/bulk/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> bulkTranslateStream(
+            @PathVariable String langTo, HttpServletRequest request) {
+        Language targetLang = Language.valueOf(langTo);
+        StreamingResponseBody body =
+                output -> bulkTranslationService.translate(request.getReader(), targetLang, segment -> {
+                    try {
+                        output.write(objectMapper.writeValueAsBytes(segment));
+                        output.write('\n');
+                        output.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/words/random")
     public ResponseEntity<WordsReportDto> random() {
         return ResponseEntity.ok(languageProcessor.getRandom());
@@ -63,14 +104,32 @@ public class LangController {
     }
 
     @GetMapping("/words/{text}/audio/{lang}")
-    public ResponseEntity<Resource> bulkPronounce(@PathVariable String lang, @PathVariable String text) {
-        byte[] bytes = languageProcessor.textToSpeech(lang, text).toByteArray();
+    public ResponseEntity<Resource> bulkPronounce(
+            @PathVariable String lang, @PathVariable String text, WebRequest request) {
+        StoredAudio audio = languageProcessor.pronounce(lang, text);
+        if (request.checkNotModified(audio.etag())) {
+            return null;
+        }
 
         return ResponseEntity.ok()
                 .headers(createAudioHeaders())
-                .contentLength(bytes.length)
-                .contentType(MediaType.parseMediaType("audio/mpeg"))
-                .body(new ByteArrayResource(bytes));
+                .cacheControl(CacheControl.maxAge(AUDIO_MAX_AGE).cachePublic().immutable())
+                .eTag(audio.etag())
+                .contentType(MediaType.parseMediaType(AUDIO_MPEG))
+                .body(new FileSystemResource(audio.path()));
+    }
+
+    /**
+     * Streams the pronunciation of a long text as MP3, sentence by sentence, while it is still being synthesized.
+     */
+    @PostMapping(value = "/audio/{lang}/stream", produces = AUDIO_MPEG)
+    public ResponseEntity<StreamingResponseBody> pronounceStream(
+            @PathVariable String lang, HttpServletRequest request) {
+        StreamingResponseBody body = output -> speechStreamService.stream(request.getReader(), lang, output);
+        return ResponseEntity.ok()
+                .headers(createAudioHeaders())
+                .contentType(MediaType.parseMediaType(AUDIO_MPEG))
+                .body(body);
     }
 
     @GetMapping("/words/{text}/{lang}/report")
@@ -80,12 +139,14 @@ public class LangController {
                 languageProcessor.getReport(text, lang, auth.getUser().getLearner()));
     }
 
+    @PostMapping("/analysis/bulk")
+    public ResponseEntity<List<TextAnalysisDto>> analyzeBatch(@Valid @RequestBody BatchAnalysisRequest request) {
+        return ResponseEntity.ok(languageProcessor.analyzeBatch(request));
+    }
+
     private HttpHeaders createAudioHeaders() {
         HttpHeaders header = new HttpHeaders();
         header.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=file.mp3");
-        header.add("Cache-Control", "no-cache, no-store, must-revalidate");
-        header.add("Pragma", "no-cache");
-        header.add("Expires", "0");
         return header;
     }
 }
@@ -0,0 +1,9 @@
+package com.almonium.engine.analyzer.dto;
+
+import com.almonium.engine.analyzer.model.enums.POS;
+
+/**
+ * One token of an annotated text with its character offsets in the source.
+ * {@code pos} is null for tags without a {@link POS} constant (punctuation, symbols); {@code tag} keeps the raw tag.
+ */
+public record AnnotatedToken(String word, String lemma, String tag, POS pos, int beginOffset, int endOffset) {}
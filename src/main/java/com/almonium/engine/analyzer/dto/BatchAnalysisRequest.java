@@ -0,0 +1,17 @@
+package com.almonium.engine.analyzer.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Either a list of independent entries (vocabulary import) or one document (reading passage).
+ */
+public record BatchAnalysisRequest(
+        @Size(max = 10_000) List<@NotBlank @Size(max = 200) String> entries, @Size(max = 100_000) String text) {
+    @AssertTrue(message = "Either entries or text must be provided")
+    public boolean isPresent() {
+        return (entries != null && !entries.isEmpty()) || (text != null && !text.isBlank());
+    }
+}
@@ -0,0 +1,5 @@
+package com.almonium.engine.analyzer.dto;
+
+import java.util.List;
+
+public record TextAnalysisDto(String text, List<AnnotatedToken> tokens) {}
@@ -0,0 +1,7 @@
+package com.almonium.engine.analyzer.exception;
+
+public class NlpPipelineUnavailableException extends RuntimeException {
+    public NlpPipelineUnavailableException(String message) {
+        super(message);
+    }
+}
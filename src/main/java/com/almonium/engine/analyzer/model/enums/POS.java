@@ -1,5 +1,11 @@
 package com.almonium.engine.analyzer.model.enums;
 
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Getter
@@ -42,6 +48,9 @@ public enum POS {
     POSSESSIVE_WH_PRONOUN("WP$"),
     WH_ADVERB("WRB");
 
+    private static final Map<String, POS> BY_CODE =
+            Arrays.stream(values()).collect(Collectors.toUnmodifiableMap(POS::getCode, Function.identity()));
+
     private final String code;
 
     POS(String code) {
@@ -49,12 +58,12 @@ public enum POS {
     }
 
     public static POS fromString(String text) {
-        for (POS pos : POS.values()) {
-            if (pos.code.equalsIgnoreCase(text)) {
-                return pos;
-            }
-        }
-        throw new IllegalArgumentException("Can't find POS for: " + text);
+        return find(text).orElseThrow(() -> new IllegalArgumentException("Can't find POS for: " + text));
+    }
+
+    // punctuation and other non-word Penn Treebank tags have no constant
+    public static Optional<POS> find(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(BY_CODE.get(code.toUpperCase(Locale.ROOT)));
     }
 
     public boolean isAdjective() {
@@ -1,6 +1,9 @@
 package com.almonium.engine.analyzer.service;
 
 import com.almonium.engine.analyzer.dto.AnalysisDto;
+import com.almonium.engine.analyzer.dto.BatchAnalysisRequest;
+import com.almonium.engine.analyzer.dto.TextAnalysisDto;
+import com.almonium.engine.audio.StoredAudio;
 import com.almonium.engine.client.words.dto.WordsReportDto;
 import com.almonium.engine.translator.dto.MLTranslationCard;
 import com.almonium.engine.translator.dto.TranslationCardDto;
@@ -14,11 +17,15 @@ public interface LanguageProcessor {
 
     AnalysisDto getReport(String entry, String languageCode, Learner learner);
 
+    List<TextAnalysisDto> analyzeBatch(BatchAnalysisRequest request);
+
     WordsReportDto getRandom();
 
     TranslationCardDto translate(String entry, Language sourceLang, Language targetLang);
 
     ByteString textToSpeech(String code, String text);
 
+    StoredAudio pronounce(String code, String text);
+
     List<String> getAudioLink(String word);
 }
@@ -0,0 +1,202 @@
+package com.almonium.engine.analyzer.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.analyzer.exception.NlpPipelineUnavailableException;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import jakarta.annotation.PreDestroy;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded pool of pre-built {@link StanfordCoreNLP} pipelines.
+ * Models are loaded on a background thread so that request latency never includes model loading;
+ * callers borrow a pipeline for the duration of one annotation, which also caps concurrent annotation heap.
+ * Batch work holds pipelines for much longer than a single report, so it runs under its own permit quota
+ * that is kept below the pool size; the remaining pipelines stay free for interactive requests.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CoreNLPPipelinePool {
+    private static final String ANNOTATORS = "tokenize, ssplit, pos, lemma";
+
+    int size;
+    long acquireTimeoutMillis;
+    boolean preload;
+    int batchPermits;
+    Semaphore batchQuota;
+    Supplier<StanfordCoreNLP> pipelineFactory;
+    BlockingQueue<StanfordCoreNLP> pipelines;
+    ExecutorService workers;
+    CompletableFuture<Void> readiness = new CompletableFuture<>();
+    AtomicBoolean loadingStarted = new AtomicBoolean();
+
+    @Autowired
+    public CoreNLPPipelinePool(
+            @Value("${app.nlp.pool-size}") int size,
+            @Value("${app.nlp.acquire-timeout-millis}") long acquireTimeoutMillis,
+            @Value("${app.nlp.preload}") boolean preload,
+            @Value("${app.nlp.batch-permits}") int batchPermits) {
+        this(size, acquireTimeoutMillis, preload, batchPermits, () -> new StanfordCoreNLP(pipelineProperties()));
+    }
+
+    CoreNLPPipelinePool(
+            int size,
+            long acquireTimeoutMillis,
+            boolean preload,
+            int batchPermits,
+            Supplier<StanfordCoreNLP> pipelineFactory) {
+        this.size = size;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.preload = preload;
+        this.batchPermits = Math.max(1, Math.min(batchPermits, size));
+        this.batchQuota = new Semaphore(this.batchPermits);
+        this.pipelineFactory = pipelineFactory;
+        this.pipelines = new ArrayBlockingQueue<>(size);
+        this.workers = Executors.newFixedThreadPool(size, workerThreadFactory());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (preload) {
+            startLoading();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * How many pipelines batch work may hold at once; batch callers should not split work further than this.
+     */
+    public int batchParallelism() {
+        return batchPermits;
+    }
+
+    public boolean isReady() {
+        return readiness.isDone() && !readiness.isCompletedExceptionally();
+    }
+
+    public <T> T execute(Function<StanfordCoreNLP, T> task) {
+        StanfordCoreNLP pipeline = acquire();
+        try {
+            return task.apply(pipeline);
+        } finally {
+            pipelines.offer(pipeline);
+        }
+    }
+
+    /**
+     * Runs batch work on the calling thread under the batch quota.
+     */
+    public <T> T executeBatch(Function<StanfordCoreNLP, T> task) {
+        acquireBatchPermit();
+        try {
+            return execute(task);
+        } finally {
+            batchQuota.release();
+        }
+    }
+
+    /**
+     * Runs batch work on one of the pool's worker threads, so that a batch can keep its share of the pipelines
+     * busy at once.
+     */
+    public <T> CompletableFuture<T> submit(Function<StanfordCoreNLP, T> task) {
+        return CompletableFuture.supplyAsync(() -> executeBatch(task), workers);
+    }
+
+    private void acquireBatchPermit() {
+        try {
+            if (!batchQuota.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new NlpPipelineUnavailableException("Too many batch analyses in progress");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NlpPipelineUnavailableException("Interrupted while waiting for an NLP pipeline");
+        }
+    }
+
+    private StanfordCoreNLP acquire() {
+        startLoading();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+        try {
+            readiness.get(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            StanfordCoreNLP pipeline = pipelines.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (pipeline == null) {
+                throw new NlpPipelineUnavailableException("All NLP pipelines are busy");
+            }
+            return pipeline;
+        } catch (ExecutionException e) {
+            throw new NlpPipelineUnavailableException("NLP models failed to load");
+        } catch (TimeoutException e) {
+            throw new NlpPipelineUnavailableException("NLP models are still loading");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NlpPipelineUnavailableException("Interrupted while waiting for an NLP pipeline");
+        }
+    }
+
+    private void startLoading() {
+        if (!loadingStarted.compareAndSet(false, true)) {
+            return;
+        }
+        Thread loader = new Thread(this::load, "corenlp-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void load() {
+        long start = System.currentTimeMillis();
+        try {
+            for (int i = 0; i < size; i++) {
+                pipelines.offer(pipelineFactory.get());
+                // one pipeline is enough to start serving, the rest reuse the already loaded annotators
+                readiness.complete(null);
+            }
+            log.info("Loaded {} CoreNLP pipelines in {} ms", size, System.currentTimeMillis() - start);
+        } catch (Throwable e) {
+            // models that do not fit in the heap fail with an Error, which must not leave readiness pending
+            log.error("Failed to load CoreNLP pipelines", e);
+            readiness.completeExceptionally(e);
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "corenlp-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Properties pipelineProperties() {
+        Properties props = new Properties();
+        props.put("annotators", ANNOTATORS);
+        return props;
+    }
+}
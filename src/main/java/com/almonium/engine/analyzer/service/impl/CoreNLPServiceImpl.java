@@ -2,52 +2,121 @@ package com.almonium.engine.analyzer.service.impl;
 
 import static lombok.AccessLevel.PRIVATE;
 
+import com.almonium.engine.analyzer.dto.AnnotatedToken;
 import com.almonium.engine.analyzer.model.enums.POS;
 import edu.stanford.nlp.ling.CoreAnnotations;
 import edu.stanford.nlp.ling.CoreLabel;
 import edu.stanford.nlp.pipeline.Annotation;
 import edu.stanford.nlp.pipeline.StanfordCoreNLP;
-import edu.stanford.nlp.util.CoreMap;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Properties;
-import lombok.AllArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
 
-// @Service
+@Service
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 @FieldDefaults(level = PRIVATE, makeFinal = true)
 public class CoreNLPServiceImpl {
-    private StanfordCoreNLP pipeline;
+    // documents shorter than this are not worth splitting across pipelines
+    private static final int MIN_CHUNK_LENGTH = 2_000;
+    private static final String PARAGRAPH_BREAK = "\n\n";
 
-    public CoreNLPServiceImpl() {
-        Properties props = new Properties();
-        props.put("annotators", "tokenize, ssplit, pos, lemma");
-        this.pipeline = new StanfordCoreNLP(props);
+    CoreNLPPipelinePool pipelinePool;
+
+    /**
+     * Tokenizes, tags and lemmatizes the text in a single annotation pass.
+     */
+    public List<AnnotatedToken> analyze(String text) {
+        return pipelinePool.execute(pipeline -> annotate(pipeline, text, 0));
     }
 
-    public List<POS> posTagging(String documentText) {
-        List<POS> pos = new ArrayList<>();
-        for (CoreLabel tok : pipeline.processToCoreDocument(documentText).tokens()) {
-            System.out.printf("%s\t%s%n", tok.word(), tok.tag());
-            pos.add(POS.fromString(tok.tag()));
+    /**
+     * Analyzes independent entries, splitting them into one slice per batch permit.
+     * Each slice borrows its pipeline once, so the per-request overhead is paid per slice, not per entry.
+     */
+    public List<List<AnnotatedToken>> analyzeAll(List<String> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        int slices = Math.min(pipelinePool.batchParallelism(), entries.size());
+        int sliceSize = (entries.size() + slices - 1) / slices;
+
+        List<CompletableFuture<List<List<AnnotatedToken>>>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < entries.size(); from += sliceSize) {
+            List<String> slice = entries.subList(from, Math.min(from + sliceSize, entries.size()));
+            futures.add(pipelinePool.submit(pipeline -> {
+                List<List<AnnotatedToken>> results = new ArrayList<>(slice.size());
+                slice.forEach(entry -> results.add(annotate(pipeline, entry, 0)));
+                return results;
+            }));
         }
-        return pos;
+
+        List<List<AnnotatedToken>> results = new ArrayList<>(entries.size());
+        futures.forEach(future -> results.addAll(join(future)));
+        return results;
     }
 
-    public List<String> lemmatize(String documentText) {
-        List<String> lemmas = new LinkedList<>();
-        Annotation document = new Annotation(documentText);
+    /**
+     * Analyzes a whole document. Long documents are cut on paragraph breaks and the chunks are annotated
+     * in parallel; token offsets are relative to the whole document either way.
+     */
+    public List<AnnotatedToken> analyzeDocument(String text) {
+        int chunks = Math.max(1, Math.min(pipelinePool.batchParallelism(), text.length() / MIN_CHUNK_LENGTH));
+        if (chunks == 1) {
+            return pipelinePool.executeBatch(pipeline -> annotate(pipeline, text, 0));
+        }
+
+        int targetLength = text.length() / chunks;
+        List<CompletableFuture<List<AnnotatedToken>>> futures = new ArrayList<>(chunks);
+        int start = 0;
+        while (start < text.length()) {
+            int end = text.indexOf(PARAGRAPH_BREAK, Math.min(start + targetLength, text.length()));
+            end = end < 0 ? text.length() : end + PARAGRAPH_BREAK.length();
+            String chunk = text.substring(start, end);
+            int offset = start;
+            futures.add(pipelinePool.submit(pipeline -> annotate(pipeline, chunk, offset)));
+            start = end;
+        }
+
+        List<AnnotatedToken> tokens = new ArrayList<>();
+        futures.forEach(future -> tokens.addAll(join(future)));
+        return tokens;
+    }
+
+    private static List<AnnotatedToken> annotate(StanfordCoreNLP pipeline, String text, int offset) {
+        Annotation document = new Annotation(text);
         pipeline.annotate(document);
-        List<CoreMap> sentences = document.get(CoreAnnotations.SentencesAnnotation.class);
-        for (CoreMap sentence : sentences) {
-            for (CoreLabel token : sentence.get(CoreAnnotations.TokensAnnotation.class)) {
-                lemmas.add(token.get(CoreAnnotations.LemmaAnnotation.class));
+        return toTokens(document.get(CoreAnnotations.TokensAnnotation.class), offset);
+    }
+
+    private static List<AnnotatedToken> toTokens(List<CoreLabel> labels, int offset) {
+        List<AnnotatedToken> tokens = new ArrayList<>(labels.size());
+        for (CoreLabel label : labels) {
+            String tag = label.tag();
+            tokens.add(new AnnotatedToken(
+                    label.word(),
+                    label.lemma(),
+                    tag,
+                    POS.find(tag).orElse(null),
+                    label.beginPosition() + offset,
+                    label.endPosition() + offset));
+        }
+        return tokens;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
         }
-        return lemmas;
     }
 }
@@ -3,110 +3,81 @@ package com.almonium.engine.analyzer.service.impl;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.engine.analyzer.dto.AnalysisDto;
-import com.almonium.engine.analyzer.mapper.DictionaryDtoMapper;
+import com.almonium.engine.analyzer.dto.AnnotatedToken;
+import com.almonium.engine.analyzer.dto.BatchAnalysisRequest;
+import com.almonium.engine.analyzer.dto.TextAnalysisDto;
 import com.almonium.engine.analyzer.model.enums.POS;
 import com.almonium.engine.analyzer.service.LanguageProcessor;
+import com.almonium.engine.audio.AudioStore;
+import com.almonium.engine.audio.StoredAudio;
+import com.almonium.engine.client.ExternalCallExecutor;
+import com.almonium.engine.client.Provider;
 import com.almonium.engine.client.datamuse.DatamuseClient;
 import com.almonium.engine.client.datamuse.dto.DatamuseEntryDto;
 import com.almonium.engine.client.google.GoogleClient;
-import com.almonium.engine.client.google.dto.GoogleDto;
 import com.almonium.engine.client.wordnik.WordnikClient;
 import com.almonium.engine.client.wordnik.dto.WordnikAudioDto;
 import com.almonium.engine.client.words.WordsClient;
 import com.almonium.engine.client.words.dto.WordsReportDto;
-import com.almonium.engine.client.yandex.YandexClient;
-import com.almonium.engine.client.yandex.dto.YandexDto;
+import com.almonium.engine.frequency.FrequencyIndex;
 import com.almonium.engine.translator.dto.MLTranslationCard;
 import com.almonium.engine.translator.dto.TranslationCardDto;
 import com.almonium.engine.translator.model.enums.Language;
-import com.almonium.engine.translator.repository.LangPairTranslatorRepository;
-import com.almonium.engine.translator.repository.TranslatorRepository;
+import com.almonium.engine.translator.service.MultiProviderTranslationService;
 import com.almonium.engine.translator.service.TranslationService;
+import com.almonium.engine.translator.service.impl.TranslationCache;
+import com.almonium.engine.translator.service.impl.TranslatorRegistry;
 import com.almonium.user.core.model.entity.Learner;
 import com.google.protobuf.ByteString;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.OptionalDouble;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.NotImplementedException;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @Slf4j
 @AllArgsConstructor
 @FieldDefaults(level = PRIVATE, makeFinal = true)
 public class LanguageProcessorImpl implements LanguageProcessor {
-    private static final double LOW_BOUND = 1e-9;
-    private static final double OFFSET = 10;
-    private static final double SCALE = 1.153315895823627;
-
     DatamuseClient datamuseClient;
     GoogleClient googleClient;
     WordnikClient wordnikClient;
-    YandexClient yandexClient;
     WordsClient wordsClient;
-    CoreNLPServiceImpl coreNLPServiceImpl = null;
+    CoreNLPServiceImpl coreNLPServiceImpl;
     TranslationService googleService;
-    LangPairTranslatorRepository langPairTranslatorRepository;
-    TranslatorRepository translatorRepository;
-    DictionaryDtoMapper dictionaryDtoMapper;
+    TranslatorRegistry translatorRegistry;
+    ExternalCallExecutor externalCalls;
+    FrequencyIndex frequencyIndex;
+    TranslationCache translationCache;
+    MultiProviderTranslationService multiProviderTranslationService;
+    AudioStore audioStore;
 
     @Override
     public MLTranslationCard bulkTranslate(String text, Language targetLang) {
         // todo deepL
         return new MLTranslationCard(
-                translatorRepository.getGoogle().getName(), googleService.bulkTranslateText(text, targetLang.name()));
+                translatorRegistry.getGoogle().getName(), googleService.bulkTranslateText(text, targetLang.name()));
     }
 
     @Override
-    @SneakyThrows
     public TranslationCardDto translate(String entry, Language sourceLang, Language targetLang) {
-
         if (sourceLang == null || targetLang == null) {
             return null;
         }
-
-        List<Long> translatorsIds =
-                langPairTranslatorRepository.getBySourceLangAndTargetLang(sourceLang.name(), targetLang.name());
-
-        if (translatorsIds.size() == 0) {
-            return null;
-        } else if (translatorsIds.size() == 1) {
-            if (translatorsIds.get(0).equals(translatorRepository.getYandex().getId())) {
-                ResponseEntity<YandexDto> responseEntity = yandexClient.translate(entry, sourceLang, targetLang);
-
-                if (responseEntity.getStatusCode().is2xxSuccessful()) {
-                    TranslationCardDto card = dictionaryDtoMapper.yandexToGeneral(responseEntity.getBody());
-                    card.setProvider(translatorRepository.getYandex().getName());
-                    return card;
-                }
-                if (responseEntity.getStatusCode() == HttpStatus.FORBIDDEN) {
-                    log.error("LIMIT EXCEEDED");
-                    return null;
-                } else if (responseEntity.getStatusCode() == HttpStatus.NOT_IMPLEMENTED) {
-                    log.error("Language pair not supported: probably, langPairTranslator table is out of date");
-                    throw new Exception("Unexpectedly not supported lang pair in this provider");
-                } else if (responseEntity.getStatusCode().is4xxClientError()) {
-                    log.error(responseEntity.getBody().toString());
-                    return null;
-                } else {
-                    return null;
-                }
-
-            } else {
-                log.error("Cannot recognize translator");
-                return null;
-            }
-        } else {
-            // TODO if multiple => which engines?
-            return null;
-        }
+        return translationCache.get(
+                sourceLang,
+                targetLang,
+                entry,
+                () -> multiProviderTranslationService.translate(entry, sourceLang, targetLang));
     }
 
     @Override
@@ -118,17 +89,15 @@ public class LanguageProcessorImpl implements LanguageProcessor {
 
     @Deprecated
     public double getFrequencyDatamuse(String entry) {
-        ResponseEntity<List<DatamuseEntryDto>> response = datamuseClient.getWordReport(entry);
-        String fTag = Arrays.stream(response.getBody().get(0).getTags())
-                .filter(tag -> tag.startsWith("f"))
-                .findFirst()
-                .get();
-        return Double.parseDouble(fTag.split(":")[1]);
+        return datamuseClient.getFrequency(entry).orElseThrow();
     }
 
     public Double getFrequency(String entry, Language language) {
-        List<GoogleDto> list = googleClient.get(entry, language).getBody();
-        return (list.size() > 1) ? Double.parseDouble(list.get(0).getTimeseries()[0]) : null;
+        OptionalDouble frequency = frequencyIndex.frequency(entry, language);
+        if (frequency.isEmpty()) {
+            frequency = googleClient.getFrequency(entry, language);
+        }
+        return frequency.isPresent() ? frequency.getAsDouble() : null;
     }
 
     public String[] getNounsForAdjective(String entry) {
@@ -146,66 +115,114 @@ public class LanguageProcessorImpl implements LanguageProcessor {
     }
 
     public String[] getAdjectivesForNoun(String entry) {
-        return Objects.requireNonNull(datamuseClient.getNounsForAdjective(entry).getBody()).stream()
+        return Objects.requireNonNull(datamuseClient.getAdjectivesForNoun(entry).getBody()).stream()
                 .map(DatamuseEntryDto::getWord)
                 .map(String::new)
                 .toArray(String[]::new);
     }
 
-    private void singleWordAnalysis(
-            AnalysisDto analysisDto, String entry, List<POS> posTags, List<String> lemmas, Language from, Language to) {
-        if (posTags.get(0).equals(POS.ADJECTIVE_COMPARATIVE)) {
+    /**
+     * Composes the provider lookups for a single word. They run concurrently and each one fills its own section,
+     * so a provider that fails or times out leaves only that section empty.
+     * Dictionary lookups are non-blocking. Translation blocks on a bounded elastic thread rather than on the external
+     * call pool, because the translators it fans out to run on that pool and each one is bounded by its own timeout.
+     */
+    private Mono<Void> singleWordAnalysis(AnalysisDto analysisDto, String entry, POS pos, Language from, Language to) {
+        List<Mono<?>> lookups = new ArrayList<>();
+        if (pos == POS.ADJECTIVE_COMPARATIVE) {
             getBaseAdjectiveForComparative(entry);
-        } else if (posTags.get(0).equals(POS.ADJECTIVE_SUPERLATIVE)) {
+        } else if (pos == POS.ADJECTIVE_SUPERLATIVE) {
             getBaseAdjectiveForSuperlative(entry);
-        } else if (posTags.get(0).equals(POS.PROPER_NOUN_SINGULAR)
-                || posTags.get(0).equals(POS.PROPER_NOUN_PLURAL)) {
+        } else if (pos == POS.PROPER_NOUN_SINGULAR || pos == POS.PROPER_NOUN_PLURAL) {
             analysisDto.setIsProper(true);
-        } else if (posTags.get(0).equals(POS.FOREIGN_WORD)) {
+        } else if (pos == POS.FOREIGN_WORD) {
             analysisDto.setIsForeignWord(true);
-        } else if (posTags.get(0).equals(POS.NOUN_PLURAL)) {
+        } else if (pos == POS.NOUN_PLURAL) {
             analysisDto.setIsPlural(true);
-        } else if (posTags.get(0).isAdjective()) {
-            analysisDto.setNouns(getNounsForAdjective(entry));
-        } else if (posTags.get(0).equals(POS.NOUN)) {
-            analysisDto.setAdjectives(getAdjectivesForNoun(entry));
+        } else if (pos != null && pos.isAdjective()) {
+            lookups.add(relatedWords(datamuseClient.getNounsForAdjectiveAsync(entry)).doOnNext(analysisDto::setNouns));
+        } else if (pos == POS.NOUN) {
+            lookups.add(
+                    relatedWords(datamuseClient.getAdjectivesForNounAsync(entry)).doOnNext(analysisDto::setAdjectives));
         }
-        analysisDto.setTranslationCards(this.translate(entry, from, to));
-        analysisDto.setHomophones(getHomophones(entry));
+        lookups.add(Mono.fromCallable(() -> translate(entry, from, to))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Translation of '{}' failed: {}", entry, e.toString());
+                    return Mono.empty();
+                })
+                .doOnNext(analysisDto::setTranslationCards));
+        lookups.add(relatedWords(datamuseClient.getHomophonesAsync(entry)).doOnNext(analysisDto::setHomophones));
+        return Mono.when(lookups);
     }
 
     @Override
     public AnalysisDto getReport(String entry, String languageCode, Learner learner) {
         AnalysisDto analysisDto = new AnalysisDto();
-        List<String> lemmas = coreNLPServiceImpl.lemmatize(entry);
-        analysisDto.setLemmas(lemmas.stream().map(String::new).toArray(String[]::new));
+        List<AnnotatedToken> tokens = coreNLPServiceImpl.analyze(entry);
+        analysisDto.setLemmas(tokens.stream().map(AnnotatedToken::lemma).toArray(String[]::new));
+        analysisDto.setPosTags(tokens.stream()
+                .map(token -> token.pos() != null ? token.pos().toString() : token.tag())
+                .toArray(String[]::new));
 
         Language sourceLang = Language.valueOf(languageCode);
         Language fluentLanguage = learner.getFluentLangs().iterator().next();
 
-        List<POS> posTags = coreNLPServiceImpl.posTagging(entry);
-        analysisDto.setPosTags(posTags.stream().map(POS::toString).toArray(String[]::new));
-        Double freq = getFrequency(entry, sourceLang);
-        if (freq != null) {
-            analysisDto.setFrequency(calculateRelativeFrequency(freq));
+        // words missing from the local index are looked up remotely and fetched into it on the next refresh
+        OptionalDouble score = frequencyIndex.score(entry, sourceLang);
+        Mono<Void> frequencyLookup = Mono.empty();
+        if (score.isPresent()) {
+            analysisDto.setFrequency(score.getAsDouble());
+        } else {
+            frequencyLookup = externalCalls
+                    .call(Provider.GOOGLE_NGRAM, googleClient.getFrequencyAsync(entry, sourceLang))
+                    .doOnNext(frequency -> analysisDto.setFrequency(FrequencyIndex.toScore(frequency)))
+                    .then();
         }
 
-        if (lemmas.size() != posTags.size()) {
-            log.error("Lemmas don't correspond with POS tags");
-        }
-        if (lemmas.size() == 1) {
+        Mono<Void> wordLookups = Mono.empty();
+        if (tokens.size() == 1) {
             log.info("one lemma analysis");
-            singleWordAnalysis(analysisDto, entry, posTags, lemmas, sourceLang, fluentLanguage);
-        } else if (lemmas.size() == 2) {
+            wordLookups = singleWordAnalysis(analysisDto, entry, tokens.get(0).pos(), sourceLang, fluentLanguage);
+        } else if (tokens.size() == 2) {
             // TO VERB case
-            if (posTags.get(0).equals(POS.TO) && posTags.get(1).equals(POS.VERB)) {
-                entry = lemmas.get(1);
-                singleWordAnalysis(analysisDto, entry, posTags, lemmas, sourceLang, fluentLanguage);
+            if (tokens.get(0).pos() == POS.TO && tokens.get(1).pos() == POS.VERB) {
+                wordLookups = singleWordAnalysis(
+                        analysisDto, tokens.get(1).lemma(), tokens.get(0).pos(), sourceLang, fluentLanguage);
             }
         }
+        // every lookup is bounded by its provider timeout and falls back on failure, so this never throws
+        Mono.when(frequencyLookup, wordLookups).block();
         return analysisDto;
     }
 
+    // mapped inside the guarded call, so that a malformed answer only leaves its own section empty
+    private Mono<String[]> relatedWords(Mono<ResponseEntity<List<DatamuseEntryDto>>> lookup) {
+        return externalCalls.call(Provider.DATAMUSE, lookup.map(LanguageProcessorImpl::words));
+    }
+
+    private static String[] words(ResponseEntity<List<DatamuseEntryDto>> response) {
+        if (response.getBody() == null) {
+            return new String[0];
+        }
+        return response.getBody().stream().map(DatamuseEntryDto::getWord).toArray(String[]::new);
+    }
+
+    @Override
+    public List<TextAnalysisDto> analyzeBatch(BatchAnalysisRequest request) {
+        List<TextAnalysisDto> results = new ArrayList<>();
+        if (request.text() != null && !request.text().isBlank()) {
+            results.add(new TextAnalysisDto(request.text(), coreNLPServiceImpl.analyzeDocument(request.text())));
+        }
+        if (request.entries() != null && !request.entries().isEmpty()) {
+            List<List<AnnotatedToken>> tokens = coreNLPServiceImpl.analyzeAll(request.entries());
+            for (int i = 0; i < tokens.size(); i++) {
+                results.add(new TextAnalysisDto(request.entries().get(i), tokens.get(i)));
+            }
+        }
+        return results;
+    }
+
     @Override
     public WordsReportDto getRandom() {
         return wordsClient.getRandomWord().getBody();
@@ -224,13 +241,8 @@ public class LanguageProcessorImpl implements LanguageProcessor {
         return googleService.textToSpeech(code, text);
     }
 
-    private static double calculateRelativeFrequency(double frequency) {
-        if (frequency == 0) {
-            return 0;
-        }
-        if (frequency < LOW_BOUND) {
-            return 1;
-        }
-        return SCALE * (Math.log10(frequency) + OFFSET);
+    @Override
+    public StoredAudio pronounce(String code, String text) {
+        return audioStore.get(code, text, () -> googleService.textToSpeech(code, text));
     }
 }
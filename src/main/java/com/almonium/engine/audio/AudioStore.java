@@ -0,0 +1,289 @@
+package com.almonium.engine.audio;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content-addressed on-disk store of synthesized speech.
+ * A file is named by the SHA-256 of (language, text), so the same pronunciation is synthesized once and the name
+ * doubles as a strong ETag. The total size is bounded; least recently served files are evicted first, with the order
+ * after a restart approximated by file modification time.
+ * Pinned files, such as the pre-generated audio of a learner's cards, are never evicted; they may take up to their
+ * own share of the size bound. Pins are held per owner until the owner releases them, or until a restart; a file
+ * pinned by several owners stays pinned until the last one releases it.
+ * An evicted file is no longer served but is only deleted after a grace period, so that a request which was handed
+ * its path just before the eviction can still open it; once open, a file stays readable after it is deleted.
+ * Evicted files are deleted on later writes and by a periodic sweep, so they do not linger when nothing is stored.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class AudioStore {
+    private static final String EXTENSION = ".mp3";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    Path directory;
+    long maxSizeBytes;
+    long maxPinnedBytes;
+    long evictionGraceNanos;
+    // key -> file size, in access order
+    LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // owner -> keys it pinned, and key -> number of owners pinning it
+    Map<String, Set<String>> pinsByOwner = new HashMap<>();
+    Map<String, Integer> pinCounts = new HashMap<>();
+    // evicted keys in eviction order, deleted from disk once their grace period has passed
+    Deque<Evicted> evicted = new ArrayDeque<>();
+    Map<String, CompletableFuture<StoredAudio>> inFlight = new ConcurrentHashMap<>();
+
+    @NonFinal
+    long totalBytes;
+
+    @NonFinal
+    long pinnedBytes;
+
+    public AudioStore(
+            @Value("${app.audio.directory}") Path directory,
+            @Value("${app.audio.max-size-mb}") long maxSizeMb,
+            @Value("${app.audio.max-pinned-mb}") long maxPinnedMb,
+            @Value("${app.audio.eviction-grace-seconds}") long evictionGraceSeconds) {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.maxPinnedBytes = Math.min(maxPinnedMb, maxSizeMb) * 1024 * 1024;
+        this.evictionGraceNanos = TimeUnit.SECONDS.toNanos(evictionGraceSeconds);
+        scan();
+    }
+
+    public String key(String languageCode, String text) {
+        return Hashing.sha256()
+                .hashString(languageCode + '\0' + text, StandardCharsets.UTF_8)
+                .toString();
+    }
+
+    public boolean contains(String languageCode, String text) {
+        return lookup(key(languageCode, text)) != null;
+    }
+
+    /**
+     * Returns the stored audio, calling the synthesizer only if it is not on disk yet.
+     * Concurrent requests for the same audio wait for a single synthesis.
+     */
+    public StoredAudio get(String languageCode, String text, Supplier<ByteString> synthesizer) {
+        String key = key(languageCode, text);
+        StoredAudio stored = lookup(key);
+        if (stored != null) {
+            return stored;
+        }
+
+        CompletableFuture<StoredAudio> mine = new CompletableFuture<>();
+        CompletableFuture<StoredAudio> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            StoredAudio written = write(key, synthesizer.get());
+            mine.complete(written);
+            return written;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    /**
+     * Keeps stored audio from being evicted on behalf of the owner. Returns false if it is not stored or the pinned
+     * share is used up.
+     */
+    public synchronized boolean pin(String owner, String languageCode, String text) {
+        String key = key(languageCode, text);
+        Set<String> owned = pinsByOwner.get(owner);
+        if (owned != null && owned.contains(key)) {
+            return true;
+        }
+        if (!pinCounts.containsKey(key)) {
+            Long size = entries.get(key);
+            if (size == null || pinnedBytes + size > maxPinnedBytes) {
+                return false;
+            }
+            pinnedBytes += size;
+        }
+        pinCounts.merge(key, 1, Integer::sum);
+        pinsByOwner.computeIfAbsent(owner, o -> new HashSet<>()).add(key);
+        return true;
+    }
+
+    /**
+     * Releases every pin of the owner; audio no other owner pins becomes evictable again.
+     */
+    public synchronized void unpin(String owner) {
+        Set<String> owned = pinsByOwner.remove(owner);
+        if (owned == null) {
+            return;
+        }
+        for (String key : owned) {
+            if (pinCounts.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1) == null) {
+                pinnedBytes -= entries.getOrDefault(key, 0L);
+            }
+        }
+    }
+
+    /**
+     * Deletes the evicted files whose grace period has passed.
+     */
+    @Scheduled(fixedDelayString = "${app.audio.eviction-sweep-seconds}", timeUnit = TimeUnit.SECONDS)
+    public synchronized void sweepEvicted() {
+        deleteEvicted(System.nanoTime());
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    Path path(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + EXTENSION);
+    }
+
+    private StoredAudio lookup(String key) {
+        Long size;
+        synchronized (this) {
+            size = entries.get(key);
+        }
+        return size == null ? null : new StoredAudio(key, path(key), size);
+    }
+
+    private StoredAudio write(String key, ByteString audio) {
+        Path target = path(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), key, TEMP_EXTENSION);
+            // writes the protobuf buffers directly, without copying them into one array first
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                audio.writeTo(out);
+            }
+            publish(key, temp, target, audio.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store audio " + key, e);
+        }
+        return new StoredAudio(key, target, audio.size());
+    }
+
+    // moved under the lock, so that a pending deletion of an earlier copy cannot remove the new file
+    private synchronized void publish(String key, Path temp, Path target, long size) throws IOException {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        add(key, size);
+    }
+
+    private synchronized void add(String key, long size) {
+        Long previous = entries.put(key, size);
+        totalBytes += size - (previous == null ? 0 : previous);
+        if (pinCounts.containsKey(key)) {
+            pinnedBytes += size - previous;
+        }
+        long now = System.nanoTime();
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxSizeBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(key) || pinCounts.containsKey(entry.getKey())) {
+                continue;
+            }
+            evicted.add(new Evicted(entry.getKey(), now + evictionGraceNanos));
+            totalBytes -= entry.getValue();
+            eldest.remove();
+        }
+        deleteEvicted(now);
+    }
+
+    private void deleteEvicted(long now) {
+        while (!evicted.isEmpty() && evicted.peek().deleteAfter() - now <= 0) {
+            String key = evicted.poll().key();
+            // stored again since it was evicted
+            if (!entries.containsKey(key)) {
+                delete(key);
+            }
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            Files.deleteIfExists(path(key));
+        } catch (IOException e) {
+            log.warn("Failed to evict audio {}: {}", key, e.toString());
+        }
+    }
+
+    private void scan() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            List<Path> audio = new ArrayList<>();
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_EXTENSION)) {
+                    // left behind by a write interrupted by a crash or shutdown
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(EXTENSION)) {
+                    audio.add(file);
+                }
+            }
+            audio.sort(Comparator.comparingLong(AudioStore::lastModified));
+            for (Path file : audio) {
+                String name = file.getFileName().toString();
+                add(name.substring(0, name.length() - EXTENSION.length()), Files.size(file));
+            }
+        } catch (NoSuchFileException e) {
+            log.warn("Audio file disappeared while scanning: {}", e.getFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan the audio store", e);
+        }
+        log.info("Audio store holds {} files, {} bytes", entries.size(), totalBytes);
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record Evicted(String key, long deleteAfter) {}
+}
@@ -0,0 +1,8 @@
+package com.almonium.engine.audio;
+
+import java.nio.file.Path;
+
+/**
+ * An audio file in the {@link AudioStore}; the etag is its content address, so it never changes for a given file.
+ */
+public record StoredAudio(String etag, Path path, long size) {}
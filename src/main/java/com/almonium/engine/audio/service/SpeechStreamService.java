@@ -0,0 +1,8 @@
+package com.almonium.engine.audio.service;
+
+import java.io.OutputStream;
+import java.io.Reader;
+
+public interface SpeechStreamService {
+    void stream(Reader text, String languageCode, OutputStream output);
+}
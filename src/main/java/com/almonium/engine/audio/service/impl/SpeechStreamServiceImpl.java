@@ -0,0 +1,97 @@
+package com.almonium.engine.audio.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.audio.service.SpeechStreamService;
+import com.almonium.engine.client.ExternalCallExecutor;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.translator.service.TranslationService;
+import com.almonium.engine.translator.util.SentenceChunker;
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pronounces long texts as a pipeline: the text is cut into sentence-aligned chunks while it is being read,
+ * up to {@code maxInFlight} chunks are synthesized concurrently, and each chunk's MP3 frames are written to the
+ * output in source order as soon as they are ready, so playback starts after the first sentence.
+ * Chunks are written straight from the synthesized bytes and are not kept in the audio store: a long text is rarely
+ * streamed twice, and its chunks would otherwise evict the word and card pronunciations the store exists for.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class SpeechStreamServiceImpl implements SpeechStreamService {
+    TranslationService googleService;
+    ExternalCallExecutor externalCalls;
+    int chunkLength;
+    int maxInFlight;
+
+    public SpeechStreamServiceImpl(
+            TranslationService googleService,
+            ExternalCallExecutor externalCalls,
+            @Value("${app.audio.stream.chunk-length}") int chunkLength,
+            @Value("${app.audio.stream.max-in-flight}") int maxInFlight) {
+        this.googleService = googleService;
+        this.externalCalls = externalCalls;
+        this.chunkLength = chunkLength;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public void stream(Reader text, String languageCode, OutputStream output) {
+        SentenceChunker chunker = new SentenceChunker(text, chunkLength, Locale.ROOT);
+        Deque<CompletableFuture<ByteString>> inFlight = new ArrayDeque<>(maxInFlight);
+        int chunks = 0;
+        try {
+            while (chunker.hasNext()) {
+                String chunk = chunker.next();
+                inFlight.add(externalCalls.submit(
+                        Provider.GOOGLE_CLOUD, () -> googleService.textToSpeech(languageCode, chunk)));
+                if (inFlight.size() == maxInFlight) {
+                    write(join(inFlight.poll()), output);
+                    chunks++;
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                write(join(inFlight.poll()), output);
+                chunks++;
+            }
+        } finally {
+            // only non-empty if the stream was aborted, by a failed chunk or a disconnected client
+            inFlight.forEach(future -> future.cancel(true));
+        }
+        log.info("Streamed speech in {} in {} chunks", languageCode, chunks);
+    }
+
+    private static void write(ByteString audio, OutputStream output) {
+        try {
+            audio.writeTo(output);
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteString join(CompletableFuture<ByteString> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -2,55 +2,203 @@ package com.almonium.engine.client;
 
 import static lombok.AccessLevel.PRIVATE;
 
-import com.almonium.util.GeneralUtils;
+import com.almonium.engine.client.cache.ProviderResponseCache;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @FieldDefaults(level = PRIVATE, makeFinal = true)
 public abstract class AbstractClient {
-    RestTemplate restTemplate = new RestTemplate();
     ObjectMapper objectMapper = new ObjectMapper();
 
-    protected <T> ResponseEntity<List<T>> requestList(String url, Map<String, String> params, Class<T> clazz) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    // replaced by the shared, pooled transport when the client is a Spring bean
+    @NonFinal
+    RestTemplate restTemplate = new RestTemplate();
+
+    // replaced by the shared, non-blocking transport when the client is a Spring bean
+    @NonFinal
+    WebClient webClient = WebClient.create();
+
+    @NonFinal
+    ProviderResponseCache responseCache;
+
+    @NonFinal
+    ProviderGuard providerGuard;
+
+    @NonFinal
+    int maxListItems = Integer.MAX_VALUE;
+
+    Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public void setRestTemplate(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    @Autowired
+    public void setWebClient(WebClient webClient) {
+        this.webClient = webClient;
+    }
 
-        String urlTemplate = GeneralUtils.queryBuilder(url, params.keySet());
+    @Autowired
+    public void setProviderGuard(ProviderGuard providerGuard) {
+        this.providerGuard = providerGuard;
+    }
 
-        ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), new ParameterizedTypeReference<>() {}, params);
+    @Autowired
+    public void setMaxListItems(@Value("${app.external.max-list-items}") int maxListItems) {
+        this.maxListItems = maxListItems;
+    }
+
+    @Autowired
+    public void setResponseCache(ProviderResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
 
-        if (response.getBody() == null) {
-            throw new RuntimeException("Body of response is null!");
+    /**
+     * Serves the request from the provider response cache, calling the provider only on a miss.
+     */
+    protected <T> ResponseEntity<T> cached(
+            Provider provider, String endpoint, String word, JavaType bodyType, Supplier<ResponseEntity<T>> loader) {
+        if (responseCache == null) {
+            return guarded(provider, loader);
         }
+        return responseCache.get(provider, endpoint, word, bodyType, () -> guarded(provider, loader));
+    }
 
-        List<T> resultList = new ArrayList<>();
-        for (Map<String, Object> item : response.getBody()) {
-            T resultItem = objectMapper.convertValue(item, clazz);
-            resultList.add(resultItem);
+    /**
+     * Calls the provider through its rate limiter, bulkhead and circuit breaker.
+     */
+    protected <T> T guarded(Provider provider, Supplier<T> call) {
+        if (providerGuard == null) {
+            return call.get();
         }
+        return providerGuard.execute(provider, call);
+    }
 
-        return ResponseEntity.status(response.getStatusCode())
-                .headers(response.getHeaders())
-                .body(resultList);
+    protected <T> Mono<T> guardedAsync(Provider provider, Supplier<Mono<T>> call) {
+        if (providerGuard == null) {
+            return Mono.defer(call);
+        }
+        return providerGuard.execute(provider, Mono.defer(call));
     }
 
-    protected <T> ResponseEntity<T> request(String url, Map<String, String> params, Class<T> clazz) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    /**
+     * Reactive counterpart of {@link #cached}.
+     */
+    protected <T> Mono<ResponseEntity<T>> cachedAsync(
+            Provider provider,
+            String endpoint,
+            String word,
+            JavaType bodyType,
+            Supplier<Mono<ResponseEntity<T>>> loader) {
+        if (responseCache == null) {
+            return guardedAsync(provider, loader);
+        }
+        return responseCache.getAsync(provider, endpoint, word, bodyType, () -> guardedAsync(provider, loader));
+    }
 
-        String urlTemplate = GeneralUtils.queryBuilder(url, params.keySet());
+    protected JavaType typeOf(Class<?> clazz) {
+        return objectMapper.getTypeFactory().constructType(clazz);
+    }
+
+    protected JavaType listOf(Class<?> clazz) {
+        return objectMapper.getTypeFactory().constructCollectionType(List.class, clazz);
+    }
+
+    /**
+     * Streams the JSON array in the response body straight into {@code clazz}, without an intermediate tree,
+     * and stops reading after the configured number of items.
+     */
+    protected <T> ResponseEntity<List<T>> requestList(RequestSpec spec, Map<String, ?> params, Class<T> clazz) {
+        ObjectReader reader = readers.computeIfAbsent(clazz, objectMapper::readerFor);
+
+        return restTemplate.execute(
+                spec.urlTemplate(),
+                HttpMethod.GET,
+                request -> {
+                    request.getHeaders().addAll(spec.headers());
+                    request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                },
+                response -> ResponseEntity.status(response.getStatusCode())
+                        .headers(response.getHeaders())
+                        .body(readList(response.getBody(), reader)),
+                params);
+    }
+
+    protected <T> ResponseEntity<T> request(RequestSpec spec, Map<String, ?> params, Class<T> clazz) {
+        return restTemplate.exchange(spec.urlTemplate(), HttpMethod.GET, spec.entity(), clazz, params);
+    }
+
+    protected <T> ResponseEntity<T> request(
+            RequestSpec spec, Map<String, ?> params, ParameterizedTypeReference<T> bodyType) {
+        return restTemplate.exchange(spec.urlTemplate(), HttpMethod.GET, spec.entity(), bodyType, params);
+    }
 
-        return restTemplate.exchange(urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), clazz, params);
+    protected <T> Mono<ResponseEntity<List<T>>> requestListAsync(
+            RequestSpec spec, Map<String, ?> params, Class<T> clazz) {
+        return retrieve(spec, params).toEntityList(clazz);
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #request}.
+     * Like the blocking call, a 4xx or 5xx response fails the returned {@link Mono}.
+     */
+    protected <T> Mono<ResponseEntity<T>> requestAsync(RequestSpec spec, Map<String, ?> params, Class<T> clazz) {
+        return retrieve(spec, params).toEntity(clazz);
+    }
+
+    protected <T> Mono<ResponseEntity<T>> requestAsync(
+            RequestSpec spec, Map<String, ?> params, ParameterizedTypeReference<T> bodyType) {
+        return retrieve(spec, params).toEntity(bodyType);
+    }
+
+    private WebClient.ResponseSpec retrieve(RequestSpec spec, Map<String, ?> params) {
+        return webClient
+                .get()
+                .uri(spec.urlTemplate(), params)
+                .headers(headers -> headers.addAll(spec.headers()))
+                .retrieve();
+    }
+
+    private <T> List<T> readList(InputStream body, ObjectReader reader) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new RuntimeException("Body of response is null!");
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new RuntimeException("Body of response is not a JSON array!");
+            }
+            List<T> items = new ArrayList<>();
+            while (items.size() < maxListItems) {
+                token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    break;
+                }
+                items.add(reader.readValue(parser));
+            }
+            return items;
+        }
     }
 }
@@ -0,0 +1,121 @@
+package com.almonium.engine.client;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.client.exception.ProviderUnavailableException;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs blocking calls to external providers on a dedicated pool, so that independent lookups overlap.
+ * Each call is bounded by its provider's timeout; a call that times out or fails completes with the given fallback,
+ * which lets callers assemble partial results instead of failing as a whole.
+ * A timed-out call is interrupted so that it gives its worker back, and calls beyond the bounded queue are
+ * rejected with {@link ProviderUnavailableException} instead of piling up behind slow providers.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class ExternalCallExecutor {
+    private static final String TIMEOUT_PREFIX = "app.external.timeouts.";
+
+    ExecutorService executor;
+    Map<Provider, Long> timeoutsMillis = new EnumMap<>(Provider.class);
+
+    public ExternalCallExecutor(
+            @Value("${app.external.pool-size}") int poolSize,
+            @Value("${app.external.queue-capacity}") int queueCapacity,
+            Environment environment) {
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        long defaultTimeout = environment.getRequiredProperty(TIMEOUT_PREFIX + "default", Long.class);
+        for (Provider provider : Provider.values()) {
+            timeoutsMillis.put(
+                    provider,
+                    environment.getProperty(TIMEOUT_PREFIX + provider.configKey(), Long.class, defaultTimeout));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public <T> CompletableFuture<T> call(Provider provider, Supplier<T> call, T fallback) {
+        return submit(provider, call).exceptionally(ex -> {
+            log.warn("{} call failed, using fallback: {}", provider, ex.toString());
+            return fallback;
+        });
+    }
+
+    /**
+     * Like {@link #call}, but without a fallback: the future fails if the call fails or exceeds the timeout.
+     */
+    public <T> CompletableFuture<T> submit(Provider provider, Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(call.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new ProviderUnavailableException(provider, "external call queue is full"));
+            return result;
+        }
+        result.orTimeout(timeoutsMillis.get(provider), TimeUnit.MILLISECONDS).whenComplete((value, ex) -> {
+            if (ex instanceof TimeoutException) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Reactive counterpart of {@link #call}: the call runs without a pool thread, is bounded by the same provider
+     * timeout, and completes empty instead of failing.
+     */
+    public <T> Mono<T> call(Provider provider, Mono<T> call) {
+        return call.timeout(Duration.ofMillis(timeoutsMillis.get(provider))).onErrorResume(ex -> {
+            log.warn("{} call failed, using fallback: {}", provider, ex.toString());
+            return Mono.empty();
+        });
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "external-call-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
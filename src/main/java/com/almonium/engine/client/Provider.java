@@ -0,0 +1,22 @@
+package com.almonium.engine.client;
+
+import java.util.Locale;
+
+/**
+ * External services the engine talks to. The config key is used to look up per-provider settings.
+ */
+public enum Provider {
+    DATAMUSE,
+    FREE_DICTIONARY,
+    GOOGLE_NGRAM,
+    GOOGLE_CLOUD,
+    OXFORD,
+    URBAN,
+    WORDNIK,
+    WORDS,
+    YANDEX;
+
+    public String configKey() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
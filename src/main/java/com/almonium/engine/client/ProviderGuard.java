@@ -0,0 +1,205 @@
+package com.almonium.engine.client;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.client.dto.ProviderResilienceStatsDto;
+import com.almonium.engine.client.exception.ProviderUnavailableException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resilience layer wrapped around every call that leaves the service for a provider.
+ * Per provider, a token bucket keeps the call rate within the quota, a bulkhead caps concurrent calls and
+ * a circuit breaker stops calling a provider that keeps failing. All three reject immediately with
+ * {@link ProviderUnavailableException} rather than queueing, so a throttled or slow provider cannot tie up threads.
+ * Client errors such as 404 mean the provider is healthy and do not count as failures; 403 and 429 do,
+ * since providers answer with them once the quota is exhausted.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class ProviderGuard {
+    private static final String PREFIX = "app.external.resilience.";
+    private static final String TIMEOUT_PREFIX = "app.external.timeouts.";
+
+    Map<Provider, Guard> guards = new EnumMap<>(Provider.class);
+
+    public ProviderGuard(
+            @Value("${app.external.resilience.breaker.failure-threshold}") int failureThreshold,
+            @Value("${app.external.resilience.breaker.open-seconds}") long openSeconds,
+            Environment environment) {
+        for (Provider provider : Provider.values()) {
+            double rate = property(environment, "rate-per-second.", provider, Double.class);
+            double burst = property(environment, "burst.", provider, Double.class);
+            int maxConcurrent = property(environment, "max-concurrent.", provider, Integer.class);
+            long timeoutMillis = environment.getProperty(
+                    TIMEOUT_PREFIX + provider.configKey(),
+                    Long.class,
+                    environment.getRequiredProperty(TIMEOUT_PREFIX + "default", Long.class));
+            guards.put(
+                    provider,
+                    new Guard(
+                            new TokenBucket(rate, burst),
+                            new Semaphore(maxConcurrent),
+                            maxConcurrent,
+                            new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds).toMillis()),
+                            Duration.ofMillis(timeoutMillis)));
+        }
+    }
+
+    /**
+     * Runs a blocking call under the provider's guard. Every outcome, errors included, is recorded with the breaker,
+     * so a half-open breaker's trial call always closes or reopens it.
+     */
+    public <T> T execute(Provider provider, Supplier<T> call) {
+        Guard guard = guards.get(provider);
+        guard.acquire(provider);
+        try {
+            T result = call.get();
+            guard.breaker.recordSuccess();
+            return result;
+        } catch (Throwable e) {
+            guard.record(provider, e);
+            throw e;
+        } finally {
+            guard.bulkhead.release();
+        }
+    }
+
+    /**
+     * Reactive counterpart of {@link #execute(Provider, Supplier)}. The permits are taken on subscription,
+     * the provider timeout is applied, and a cancelled call counts as a failure so that a half-open breaker
+     * is never left waiting for a trial call that will not complete.
+     */
+    public <T> Mono<T> execute(Provider provider, Mono<T> call) {
+        return Mono.defer(() -> {
+            Guard guard = guards.get(provider);
+            guard.acquire(provider);
+            // released before the outcome reaches the subscriber, and only once even if a cancel follows
+            AtomicBoolean released = new AtomicBoolean();
+            return call.timeout(guard.timeout)
+                    .doOnSuccess(result -> guard.breaker.recordSuccess())
+                    .doOnError(e -> guard.record(provider, e))
+                    .doOnTerminate(() -> {
+                        if (released.compareAndSet(false, true)) {
+                            guard.bulkhead.release();
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (released.compareAndSet(false, true)) {
+                            guard.breaker.recordFailure();
+                            guard.bulkhead.release();
+                        }
+                    });
+        });
+    }
+
+    public List<ProviderResilienceStatsDto> getStats() {
+        return Arrays.stream(Provider.values())
+                .map(provider -> {
+                    Guard guard = guards.get(provider);
+                    return new ProviderResilienceStatsDto(
+                            provider,
+                            guard.breaker.getState(),
+                            guard.bucket.availableTokens(),
+                            guard.maxConcurrent - guard.bulkhead.availablePermits(),
+                            guard.maxConcurrent,
+                            guard.rejectedByRateLimit.get(),
+                            guard.rejectedByBulkhead.get(),
+                            guard.rejectedByBreaker.get(),
+                            guard.failures.get());
+                })
+                .toList();
+    }
+
+    static boolean isProviderFailure(Throwable e) {
+        HttpStatusCode status = null;
+        if (e instanceof RestClientResponseException response) {
+            status = response.getStatusCode();
+        } else if (e instanceof WebClientResponseException response) {
+            status = response.getStatusCode();
+        }
+        return status == null
+                || status.is5xxServerError()
+                || status.value() == HttpStatus.FORBIDDEN.value()
+                || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static <T> T property(Environment environment, String key, Provider provider, Class<T> type) {
+        return environment.getProperty(
+                PREFIX + key + provider.configKey(),
+                type,
+                environment.getRequiredProperty(PREFIX + key + "default", type));
+    }
+
+    @FieldDefaults(level = PRIVATE, makeFinal = true)
+    private static final class Guard {
+        TokenBucket bucket;
+        Semaphore bulkhead;
+        int maxConcurrent;
+        CircuitBreaker breaker;
+        Duration timeout;
+        AtomicLong rejectedByRateLimit = new AtomicLong();
+        AtomicLong rejectedByBulkhead = new AtomicLong();
+        AtomicLong rejectedByBreaker = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+
+        Guard(TokenBucket bucket, Semaphore bulkhead, int maxConcurrent, CircuitBreaker breaker, Duration timeout) {
+            this.bucket = bucket;
+            this.bulkhead = bulkhead;
+            this.maxConcurrent = maxConcurrent;
+            this.breaker = breaker;
+            this.timeout = timeout;
+        }
+
+        /**
+         * Takes a rate token and a bulkhead permit, then asks the breaker, so that a half-open breaker only lets
+         * its trial call through when the call is actually going to be made. A call rejected by the bulkhead or
+         * the breaker never reaches the provider, so its rate token is given back.
+         */
+        void acquire(Provider provider) {
+            if (!bucket.tryAcquire()) {
+                rejectedByRateLimit.incrementAndGet();
+                throw new ProviderUnavailableException(provider, "rate limit reached");
+            }
+            if (!bulkhead.tryAcquire()) {
+                bucket.release();
+                rejectedByBulkhead.incrementAndGet();
+                throw new ProviderUnavailableException(provider, "too many concurrent calls");
+            }
+            if (!breaker.allowRequest()) {
+                bulkhead.release();
+                bucket.release();
+                rejectedByBreaker.incrementAndGet();
+                throw new ProviderUnavailableException(provider, "circuit breaker is open");
+            }
+        }
+
+        void record(Provider provider, Throwable e) {
+            if (isProviderFailure(e)) {
+                failures.incrementAndGet();
+                breaker.recordFailure();
+                log.warn("{} call failed, breaker is {}: {}", provider, breaker.getState(), e.toString());
+            } else {
+                breaker.recordSuccess();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.almonium.engine.client;
+
+import com.almonium.util.GeneralUtils;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * A provider endpoint prepared once per client: the encoded URI template and a request entity with its constant
+ * headers. Both are immutable and shared by every call, so a request only expands the template variables.
+ *
+ * @param urlTemplate encoded URL with {@code {name}} placeholders for path segments and query values
+ */
+public record RequestSpec(String urlTemplate, HttpEntity<Void> entity) {
+
+    public static RequestSpec of(String url) {
+        return of(url, List.of(), Map.of());
+    }
+
+    public static RequestSpec of(String url, Collection<String> queryParams) {
+        return of(url, queryParams, Map.of());
+    }
+
+    public static RequestSpec of(String url, Collection<String> queryParams, Map<String, String> headers) {
+        HttpHeaders httpHeaders = new HttpHeaders();
+        headers.forEach(httpHeaders::set);
+        httpHeaders.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        return new RequestSpec(
+                GeneralUtils.queryBuilder(url, queryParams),
+                new HttpEntity<>(HttpHeaders.readOnlyHttpHeaders(httpHeaders)));
+    }
+
+    public HttpHeaders headers() {
+        return entity.getHeaders();
+    }
+}
@@ -0,0 +1,65 @@
+package com.almonium.engine.client;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+/**
+ * Token-bucket rate limiter. The bucket refills continuously at {@code permitsPerSecond} up to {@code capacity},
+ * so short bursts are allowed while the long-run rate stays within the provider's quota.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class TokenBucket {
+    double capacity;
+    double tokensPerNano;
+    LongSupplier nanoClock;
+
+    @NonFinal
+    double tokens;
+
+    @NonFinal
+    long refilledAt;
+
+    public TokenBucket(double permitsPerSecond, double capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    public TokenBucket(double permitsPerSecond, double capacity, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    /**
+     * Gives back a token taken for a call that was not made after all.
+     */
+    public synchronized void release() {
+        refill();
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    public synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+}
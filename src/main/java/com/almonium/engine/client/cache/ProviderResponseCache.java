@@ -0,0 +1,274 @@
+package com.almonium.engine.client.cache;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.cache.dto.ProviderCacheStatsDto;
+import com.almonium.engine.client.cache.model.entity.CachedProviderResponse;
+import com.almonium.engine.client.cache.repository.CachedProviderResponseRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Two-tier cache for successful provider responses.
+ * The first tier is an in-heap LRU cache per provider, bounded by size and by the provider's TTL.
+ * The optional second tier persists response bodies as JSON, so that warm entries survive restarts;
+ * rows older than their provider's TTL are purged on a schedule.
+ * Only 2xx responses with a body are cached; errors always go back to the provider.
+ * Concurrent misses for the same key share one provider call. Words are folded to lower case only for providers
+ * configured as case-insensitive, since elsewhere "Polish" and "polish" are different lookups.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class ProviderResponseCache {
+    private static final String TTL_PREFIX = "app.external.cache.ttl-minutes.";
+    private static final String FOLD_CASE_PREFIX = "app.external.cache.fold-case.";
+    private static final char KEY_SEPARATOR = '|';
+
+    Map<Provider, Cache<String, ResponseEntity<?>>> caches = new EnumMap<>(Provider.class);
+    Map<Provider, Duration> ttls = new EnumMap<>(Provider.class);
+    Map<Provider, AtomicLong> persistentHits = new EnumMap<>(Provider.class);
+    Map<Provider, Boolean> foldCase = new EnumMap<>(Provider.class);
+    Map<String, CompletableFuture<ResponseEntity<?>>> inFlight = new ConcurrentHashMap<>();
+    boolean persistent;
+    CachedProviderResponseRepository repository;
+    ObjectMapper objectMapper;
+
+    public ProviderResponseCache(
+            @Value("${app.external.cache.max-size}") long maxSize,
+            @Value("${app.external.cache.persistent}") boolean persistent,
+            Environment environment,
+            CachedProviderResponseRepository repository,
+            ObjectMapper objectMapper) {
+        this.persistent = persistent;
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        long defaultTtl = environment.getRequiredProperty(TTL_PREFIX + "default", Long.class);
+        boolean defaultFoldCase = environment.getProperty(FOLD_CASE_PREFIX + "default", Boolean.class, false);
+        for (Provider provider : Provider.values()) {
+            Duration ttl = Duration.ofMinutes(
+                    environment.getProperty(TTL_PREFIX + provider.configKey(), Long.class, defaultTtl));
+            ttls.put(provider, ttl);
+            caches.put(
+                    provider,
+                    CacheBuilder.newBuilder()
+                            .maximumSize(maxSize)
+                            .expireAfterWrite(ttl.toMinutes(), TimeUnit.MINUTES)
+                            .recordStats()
+                            .build());
+            persistentHits.put(provider, new AtomicLong());
+            foldCase.put(
+                    provider,
+                    environment.getProperty(FOLD_CASE_PREFIX + provider.configKey(), Boolean.class, defaultFoldCase));
+        }
+    }
+
+    /**
+     * Returns the cached response for the provider endpoint and word, or loads it and caches it if it is successful.
+     * A caller that misses while another caller is already loading the same key waits for that load.
+     *
+     * @param endpoint identifies the request within the provider, including any parameters other than the word
+     * @param bodyType used to read the body back from the persistent tier
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> get(
+            Provider provider, String endpoint, String word, JavaType bodyType, Supplier<ResponseEntity<T>> loader) {
+        Optional<ResponseEntity<T>> cached = getIfPresent(provider, endpoint, word, bodyType);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        String key = key(provider, endpoint, word);
+        CompletableFuture<ResponseEntity<?>> load = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<?>> running = inFlight.putIfAbsent(key, load);
+        if (running != null) {
+            return (ResponseEntity<T>) join(running);
+        }
+        try {
+            // the previous load may have finished between the lookup and claiming the key
+            ResponseEntity<T> response = (ResponseEntity<T>) caches.get(provider).getIfPresent(key);
+            if (response == null) {
+                response = loader.get();
+                put(provider, endpoint, word, response);
+            }
+            load.complete(response);
+            return response;
+        } catch (Throwable e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    /**
+     * Reactive counterpart of {@link #get}. Both tiers are consulted off the event loop,
+     * because the persistent tier is read and written through blocking JDBC.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<ResponseEntity<T>> getAsync(
+            Provider provider,
+            String endpoint,
+            String word,
+            JavaType bodyType,
+            Supplier<Mono<ResponseEntity<T>>> loader) {
+        String key = key(provider, endpoint, word);
+        return Mono.fromCallable(() -> this.<T>getIfPresent(provider, endpoint, word, bodyType))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> cached.map(Mono::just).orElseGet(() -> Mono.defer(() -> {
+                    CompletableFuture<ResponseEntity<?>> load = new CompletableFuture<>();
+                    CompletableFuture<ResponseEntity<?>> running = inFlight.putIfAbsent(key, load);
+                    if (running != null) {
+                        return Mono.fromFuture(running).map(response -> (ResponseEntity<T>) response);
+                    }
+                    return loader.get()
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(response -> put(provider, endpoint, word, response))
+                            .doOnSuccess(load::complete)
+                            .doOnError(load::completeExceptionally)
+                            .doOnCancel(() -> load.cancel(false))
+                            .doFinally(signal -> inFlight.remove(key, load));
+                })));
+    }
+
+    /**
+     * Looks the response up in both tiers without calling the provider. Reading the persistent tier blocks.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<ResponseEntity<T>> getIfPresent(
+            Provider provider, String endpoint, String word, JavaType bodyType) {
+        String key = key(provider, endpoint, word);
+        Cache<String, ResponseEntity<?>> cache = caches.get(provider);
+
+        ResponseEntity<T> cached = (ResponseEntity<T>) cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<ResponseEntity<T>> stored = persistent ? readPersistent(provider, key, bodyType) : Optional.empty();
+        if (stored.isPresent()) {
+            persistentHits.get(provider).incrementAndGet();
+            cache.put(key, stored.get());
+        }
+        return stored;
+    }
+
+    /**
+     * Caches the response if it is successful and has a body. Writing the persistent tier blocks.
+     */
+    public void put(Provider provider, String endpoint, String word, ResponseEntity<?> response) {
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            String key = key(provider, endpoint, word);
+            caches.get(provider).put(key, response);
+            if (persistent) {
+                writePersistent(provider, key, response.getBody());
+            }
+        }
+    }
+
+    /**
+     * Deletes persisted responses that are older than their provider's TTL and would never be served again.
+     */
+    @Scheduled(cron = "${app.external.cache.purge-cron}")
+    public void purgeExpired() {
+        if (!persistent) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Provider provider : Provider.values()) {
+            int purged = repository.deleteByProviderAndFetchedAtBefore(provider, now.minus(ttls.get(provider)));
+            if (purged > 0) {
+                log.info("Purged {} expired {} responses", purged, provider);
+            }
+        }
+    }
+
+    public List<ProviderCacheStatsDto> getStats() {
+        return Arrays.stream(Provider.values())
+                .map(provider -> {
+                    Cache<String, ResponseEntity<?>> cache = caches.get(provider);
+                    CacheStats stats = cache.stats();
+                    return new ProviderCacheStatsDto(
+                            provider,
+                            cache.size(),
+                            stats.hitCount(),
+                            stats.missCount(),
+                            stats.hitRate(),
+                            stats.evictionCount(),
+                            persistentHits.get(provider).get());
+                })
+                .toList();
+    }
+
+    String key(Provider provider, String endpoint, String word) {
+        return provider.name() + KEY_SEPARATOR + endpoint + KEY_SEPARATOR + normalize(provider, word);
+    }
+
+    private String normalize(Provider provider, String word) {
+        String stripped = word.strip();
+        return foldCase.get(provider) ? stripped.toLowerCase(Locale.ROOT) : stripped;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> Optional<ResponseEntity<T>> readPersistent(Provider provider, String key, JavaType bodyType) {
+        try {
+            LocalDateTime freshSince = LocalDateTime.now().minus(ttls.get(provider));
+            Optional<CachedProviderResponse> entry =
+                    repository.findById(key).filter(stored -> stored.getFetchedAt().isAfter(freshSince));
+            if (entry.isEmpty()) {
+                return Optional.empty();
+            }
+            T body = objectMapper.readValue(entry.get().getPayload(), bodyType);
+            return Optional.of(ResponseEntity.ok(body));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not read cached {} response {}: {}", provider, key, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private void writePersistent(Provider provider, String key, Object body) {
+        try {
+            repository.save(new CachedProviderResponse(
+                    key, provider, objectMapper.writeValueAsString(body), LocalDateTime.now()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not persist {} response {}: {}", provider, key, e.toString());
+        }
+    }
+}
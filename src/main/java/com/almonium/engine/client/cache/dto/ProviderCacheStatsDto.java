@@ -0,0 +1,12 @@
+package com.almonium.engine.client.cache.dto;
+
+import com.almonium.engine.client.Provider;
+
+public record ProviderCacheStatsDto(
+        Provider provider,
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long persistentHitCount) {}
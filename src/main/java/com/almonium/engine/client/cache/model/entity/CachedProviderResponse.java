@@ -0,0 +1,37 @@
+package com.almonium.engine.client.cache.model.entity;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.client.Provider;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "provider_response")
+@FieldDefaults(level = PRIVATE)
+public class CachedProviderResponse {
+    @Id
+    String cacheKey;
+
+    @Enumerated(EnumType.STRING)
+    Provider provider;
+
+    @Column(columnDefinition = "TEXT")
+    String payload;
+
+    LocalDateTime fetchedAt;
+}
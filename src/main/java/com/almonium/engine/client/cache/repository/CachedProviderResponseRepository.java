@@ -0,0 +1,18 @@
+package com.almonium.engine.client.cache.repository;
+
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.cache.model.entity.CachedProviderResponse;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface CachedProviderResponseRepository extends JpaRepository<CachedProviderResponse, String> {
+    @Modifying
+    @Transactional
+    @Query("delete from CachedProviderResponse r where r.provider = :provider and r.fetchedAt < :fetchedBefore")
+    int deleteByProviderAndFetchedAtBefore(Provider provider, LocalDateTime fetchedBefore);
+}
@@ -0,0 +1,34 @@
+package com.almonium.engine.client.controller;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.client.ProviderGuard;
+import com.almonium.engine.client.cache.ProviderResponseCache;
+import com.almonium.engine.client.cache.dto.ProviderCacheStatsDto;
+import com.almonium.engine.client.dto.ProviderResilienceStatsDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/providers")
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class ProviderController {
+    ProviderResponseCache responseCache;
+    ProviderGuard providerGuard;
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<ProviderCacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(responseCache.getStats());
+    }
+
+    @GetMapping("/resilience/stats")
+    public ResponseEntity<List<ProviderResilienceStatsDto>> getResilienceStats() {
+        return ResponseEntity.ok(providerGuard.getStats());
+    }
+}
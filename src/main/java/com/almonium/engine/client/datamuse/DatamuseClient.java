@@ -4,21 +4,23 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.engine.client.AbstractClient;
 import com.almonium.engine.client.Client;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.RequestSpec;
 import com.almonium.engine.client.datamuse.dto.DatamuseEntryDto;
-import com.almonium.util.GeneralUtils;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
 @Client
 @AllArgsConstructor
@@ -44,8 +46,15 @@ public class DatamuseClient extends AbstractClient {
     static String DEFINITION = "d";
     static String METADATA = "md";
     static String IPA = "ipa";
+    static RequestSpec WORD_REPORT =
+            RequestSpec.of(BASE_URL + ENDPOINT, List.of(SPELLED_LIKE, QUERY_ECHO, METADATA, IPA, MAX));
+    static Map<String, RequestSpec> RELATIONS = Stream.of(
+                    HOMOPHONES, MEANS_LIKE, ADJ_FOR_N, N_FOR_ADJ, ANTONYMS, SYNONYMS, PREDECESSORS, FOLLOWERS)
+            .collect(Collectors.toUnmodifiableMap(
+                    Function.identity(), relation -> RequestSpec.of(BASE_URL + ENDPOINT, List.of(relation))));
+    static ParameterizedTypeReference<List<DatamuseEntryDto>> ENTRY_LIST = new ParameterizedTypeReference<>() {};
 
-    RestTemplate restTemplate;
+    LocalLexicon lexicon;
 
     public ResponseEntity<List<DatamuseEntryDto>> getHomophones(String word) {
         return request(word, HOMOPHONES);
@@ -79,34 +88,114 @@ public class DatamuseClient extends AbstractClient {
         return request(noun, ADJ_FOR_N);
     }
 
-    public ResponseEntity<List<DatamuseEntryDto>> getWordReport(String entry) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    public Mono<ResponseEntity<List<DatamuseEntryDto>>> getHomophonesAsync(String word) {
+        return requestAsync(word, HOMOPHONES);
+    }
+
+    public Mono<ResponseEntity<List<DatamuseEntryDto>>> getPredecessorsAsync(String word) {
+        return requestAsync(word, PREDECESSORS);
+    }
+
+    public Mono<ResponseEntity<List<DatamuseEntryDto>>> getFollowersAsync(String word) {
+        return requestAsync(word, FOLLOWERS);
+    }
+
+    public Mono<ResponseEntity<List<DatamuseEntryDto>>> getSynonymsAsync(String word) {
+        return requestAsync(word, SYNONYMS);
+    }
+
+    public Mono<ResponseEntity<List<DatamuseEntryDto>>> getAntonymsAsync(String word) {
+        return requestAsync(word, ANTONYMS);
+    }
+
+    public Mono<ResponseEntity<List<DatamuseEntryDto>>> getMeansLikeAsync(String word) {
+        return requestAsync(word, MEANS_LIKE);
+    }
+
+    public Mono<ResponseEntity<List<DatamuseEntryDto>>> getNounsForAdjectiveAsync(String adjective) {
+        return requestAsync(adjective, N_FOR_ADJ);
+    }
 
-        Map<String, String> params = new HashMap<>();
-        params.put(SPELLED_LIKE, entry);
-        params.put(QUERY_ECHO, SPELLED_LIKE);
-        params.put(METADATA, FREQUENCY + PART_OF_SPEECH + PRONUNCIATION + DEFINITION);
-        params.put(MAX, String.valueOf(1));
-        params.put(IPA, String.valueOf(1));
+    public Mono<ResponseEntity<List<DatamuseEntryDto>>> getAdjectivesForNounAsync(String noun) {
+        return requestAsync(noun, ADJ_FOR_N);
+    }
 
-        String urlTemplate =
-                GeneralUtils.queryBuilder(BASE_URL + ENDPOINT, List.of(SPELLED_LIKE, QUERY_ECHO, METADATA, IPA, MAX));
+    /**
+     * Returns the word frequency in occurrences per million, from the local lexicon if it knows the word.
+     */
+    public OptionalDouble getFrequency(String word) {
+        OptionalDouble local = lexicon.frequency(word);
+        if (local.isPresent()) {
+            return local;
+        }
+        List<DatamuseEntryDto> report = getWordReport(word).getBody();
+        if (report == null || report.isEmpty() || report.get(0).getTags() == null) {
+            return OptionalDouble.empty();
+        }
+        return Arrays.stream(report.get(0).getTags())
+                .filter(tag -> tag.startsWith(FREQUENCY + ":"))
+                .mapToDouble(tag -> Double.parseDouble(tag.substring(FREQUENCY.length() + 1)))
+                .findFirst();
+    }
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), new ParameterizedTypeReference<>() {}, params);
+    public ResponseEntity<List<DatamuseEntryDto>> getWordReport(String entry) {
+        return cached(
+                Provider.DATAMUSE,
+                METADATA,
+                entry,
+                listOf(DatamuseEntryDto.class),
+                () -> request(WORD_REPORT, wordReportParams(entry), ENTRY_LIST));
+    }
+
+    public Mono<ResponseEntity<List<DatamuseEntryDto>>> getWordReportAsync(String entry) {
+        return cachedAsync(
+                Provider.DATAMUSE,
+                METADATA,
+                entry,
+                listOf(DatamuseEntryDto.class),
+                () -> requestAsync(WORD_REPORT, wordReportParams(entry), ENTRY_LIST));
     }
 
     private ResponseEntity<List<DatamuseEntryDto>> request(String word, String parameter) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        Optional<ResponseEntity<List<DatamuseEntryDto>>> local = fromLexicon(word, parameter);
+        if (local.isPresent()) {
+            return local.get();
+        }
+
+        return cached(
+                Provider.DATAMUSE,
+                parameter,
+                word,
+                listOf(DatamuseEntryDto.class),
+                () -> request(RELATIONS.get(parameter), Map.of(parameter, word), ENTRY_LIST));
+    }
 
-        String urlTemplate = GeneralUtils.queryBuilder(BASE_URL + ENDPOINT, List.of(parameter));
+    private Mono<ResponseEntity<List<DatamuseEntryDto>>> requestAsync(String word, String parameter) {
+        Optional<ResponseEntity<List<DatamuseEntryDto>>> local = fromLexicon(word, parameter);
+        if (local.isPresent()) {
+            return Mono.just(local.get());
+        }
+
+        return cachedAsync(
+                Provider.DATAMUSE,
+                parameter,
+                word,
+                listOf(DatamuseEntryDto.class),
+                () -> requestAsync(RELATIONS.get(parameter), Map.of(parameter, word), ENTRY_LIST));
+    }
 
-        Map<String, String> params = new HashMap<>();
-        params.put(parameter, word);
+    private Optional<ResponseEntity<List<DatamuseEntryDto>>> fromLexicon(String word, String parameter) {
+        return lexicon.lookup(parameter, word).map(related -> ResponseEntity.ok(related.stream()
+                .map(relatedWord -> DatamuseEntryDto.builder().word(relatedWord).build())
+                .toList()));
+    }
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), new ParameterizedTypeReference<>() {}, params);
+    private static Map<String, String> wordReportParams(String entry) {
+        return Map.of(
+                SPELLED_LIKE, entry,
+                QUERY_ECHO, SPELLED_LIKE,
+                METADATA, FREQUENCY + PART_OF_SPEECH + PRONUNCIATION + DEFINITION,
+                MAX, String.valueOf(1),
+                IPA, String.valueOf(1));
     }
 }
@@ -0,0 +1,111 @@
+package com.almonium.engine.client.datamuse;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-only lexicon of the most frequent English words, loaded once from a bundled tab-separated file.
+ * Entries are kept in sorted parallel arrays and looked up by binary search, so a hit costs no network round trip
+ * and allocates only the returned list.
+ * Each line is {@code relation<TAB>word<TAB>values}, where relation is a Datamuse code such as {@code rel_hom};
+ * for the {@code f} relation the value is the frequency in occurrences per million words.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class LocalLexicon {
+    static final String FREQUENCY = "f";
+    private static final char KEY_SEPARATOR = '\t';
+    private static final String COMMENT = "#";
+
+    String[] keys;
+    String[][] values;
+    String[] frequencyWords;
+    double[] frequencies;
+
+    public LocalLexicon(@Value("${app.lexicon.location}") Resource location) {
+        Map<String, String[]> relations = new TreeMap<>();
+        Map<String, Double> wordFrequencies = new TreeMap<>();
+        if (location.exists()) {
+            read(location, relations, wordFrequencies);
+        } else {
+            log.warn("Lexicon {} not found, all lookups will go to the network", location);
+        }
+
+        this.keys = relations.keySet().toArray(String[]::new);
+        this.values = relations.values().toArray(String[][]::new);
+        this.frequencyWords = wordFrequencies.keySet().toArray(String[]::new);
+        this.frequencies =
+                wordFrequencies.values().stream().mapToDouble(Double::doubleValue).toArray();
+        log.info("Loaded {} lexicon relations and {} word frequencies", keys.length, frequencyWords.length);
+    }
+
+    public Optional<List<String>> lookup(String relation, String word) {
+        int index = Arrays.binarySearch(keys, key(relation, normalize(word)));
+        return index >= 0 ? Optional.of(List.of(values[index])) : Optional.empty();
+    }
+
+    public OptionalDouble frequency(String word) {
+        int index = Arrays.binarySearch(frequencyWords, normalize(word));
+        return index >= 0 ? OptionalDouble.of(frequencies[index]) : OptionalDouble.empty();
+    }
+
+    private static void read(Resource location, Map<String, String[]> relations, Map<String, Double> frequencies) {
+        try (BufferedReader reader =
+                new BufferedReader(new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith(COMMENT)) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (columns.length != 3) {
+                    log.warn("Skipping malformed lexicon line: {}", line);
+                    continue;
+                }
+                String relation = columns[0];
+                String word = normalize(columns[1]);
+                if (FREQUENCY.equals(relation)) {
+                    parseFrequency(columns[2]).ifPresent(frequency -> frequencies.put(word, frequency));
+                } else {
+                    relations.put(key(relation, word), columns[2].split(","));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to read lexicon {}", location, e);
+        }
+    }
+
+    private static Optional<Double> parseFrequency(String value) {
+        try {
+            return Optional.of(Double.parseDouble(value));
+        } catch (NumberFormatException e) {
+            log.warn("Skipping malformed lexicon frequency: {}", value);
+            return Optional.empty();
+        }
+    }
+
+    private static String key(String relation, String word) {
+        return relation + KEY_SEPARATOR + word;
+    }
+
+    private static String normalize(String word) {
+        return word.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,15 @@
+package com.almonium.engine.client.dto;
+
+import com.almonium.engine.client.CircuitBreaker;
+import com.almonium.engine.client.Provider;
+
+public record ProviderResilienceStatsDto(
+        Provider provider,
+        CircuitBreaker.State breakerState,
+        double availableTokens,
+        int activeCalls,
+        int maxConcurrentCalls,
+        long rejectedByRateLimit,
+        long rejectedByBulkhead,
+        long rejectedByBreaker,
+        long failures) {}
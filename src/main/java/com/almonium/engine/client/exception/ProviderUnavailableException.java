@@ -0,0 +1,9 @@
+package com.almonium.engine.client.exception;
+
+import com.almonium.engine.client.Provider;
+
+public class ProviderUnavailableException extends RuntimeException {
+    public ProviderUnavailableException(Provider provider, String reason) {
+        super(provider + " is unavailable: " + reason);
+    }
+}
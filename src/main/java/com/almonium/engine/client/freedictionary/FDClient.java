@@ -4,18 +4,17 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.engine.client.AbstractClient;
 import com.almonium.engine.client.Client;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.RequestSpec;
 import com.almonium.engine.client.freedictionary.dto.FDEntry;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
 @Client
 @AllArgsConstructor
@@ -25,16 +24,25 @@ public class FDClient extends AbstractClient {
     static String BASE_URL = "https://api.dictionaryapi.dev/api/v2";
     static String ENDPOINT = "/entries";
     static String LANG_CODE = "/en/";
-    RestTemplate restTemplate;
+    static String WORD = "word";
+    static RequestSpec ENTRIES = RequestSpec.of(BASE_URL + ENDPOINT + LANG_CODE + "{" + WORD + "}");
+    static ParameterizedTypeReference<List<FDEntry>> ENTRY_LIST = new ParameterizedTypeReference<>() {};
 
     public ResponseEntity<List<FDEntry>> request(String word) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        return cached(
+                Provider.FREE_DICTIONARY,
+                ENDPOINT + LANG_CODE,
+                word,
+                listOf(FDEntry.class),
+                () -> request(ENTRIES, Map.of(WORD, word), ENTRY_LIST));
+    }
 
-        return restTemplate.exchange(
-                BASE_URL + ENDPOINT + LANG_CODE + word,
-                HttpMethod.GET,
-                new HttpEntity<>(headers),
-                new ParameterizedTypeReference<>() {});
+    public Mono<ResponseEntity<List<FDEntry>>> requestAsync(String word) {
+        return cachedAsync(
+                Provider.FREE_DICTIONARY,
+                ENDPOINT + LANG_CODE,
+                word,
+                listOf(FDEntry.class),
+                () -> requestAsync(ENTRIES, Map.of(WORD, word), ENTRY_LIST));
     }
 }
@@ -4,14 +4,18 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.engine.client.AbstractClient;
 import com.almonium.engine.client.Client;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.RequestSpec;
 import com.almonium.engine.client.google.dto.GoogleDto;
 import com.almonium.engine.translator.model.enums.Language;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
 
 @Client
 @AllArgsConstructor
@@ -38,15 +42,61 @@ public class GoogleClient extends AbstractClient {
             Language.FR, "fr-2019",
             Language.ES, "es-2019",
             Language.RU, "ru-2019");
+    static RequestSpec NGRAMS =
+            RequestSpec.of(URL, List.of(CONTENT, CORPUS, START_YEAR, END_YEAR, SMOOTHING, CASE_INSENSITIVE));
 
     public ResponseEntity<List<GoogleDto>> get(String entry, Language language) {
-        Map<String, String> params = Map.of(
+        Map<String, String> params = params(entry, language);
+        return cached(
+                Provider.GOOGLE_NGRAM,
+                languageMap.get(language),
+                entry,
+                listOf(GoogleDto.class),
+                () -> super.requestList(NGRAMS, params, GoogleDto.class));
+    }
+
+    public Mono<ResponseEntity<List<GoogleDto>>> getAsync(String entry, Language language) {
+        Map<String, String> params = params(entry, language);
+        return cachedAsync(
+                Provider.GOOGLE_NGRAM,
+                languageMap.get(language),
+                entry,
+                listOf(GoogleDto.class),
+                () -> super.requestListAsync(NGRAMS, params, GoogleDto.class));
+    }
+
+    /**
+     * Returns the relative frequency of the entry in the language's corpus, summed over all spellings.
+     */
+    public OptionalDouble getFrequency(String entry, Language language) {
+        return frequencyOf(get(entry, language).getBody());
+    }
+
+    public Mono<Double> getFrequencyAsync(String entry, Language language) {
+        return getAsync(entry, language).flatMap(response -> {
+            OptionalDouble frequency = frequencyOf(response.getBody());
+            return frequency.isPresent() ? Mono.just(frequency.getAsDouble()) : Mono.empty();
+        });
+    }
+
+    private static OptionalDouble frequencyOf(List<GoogleDto> ngrams) {
+        if (ngrams == null || ngrams.isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        // in case-insensitive mode the first series aggregates all spellings
+        String[] timeseries = ngrams.get(0).getTimeseries();
+        return timeseries == null || timeseries.length == 0
+                ? OptionalDouble.empty()
+                : OptionalDouble.of(Double.parseDouble(timeseries[0]));
+    }
+
+    private static Map<String, String> params(String entry, Language language) {
+        return Map.of(
                 CONTENT, entry,
                 CORPUS, languageMap.get(language),
                 START_YEAR, String.valueOf(START_YEAR_VALUE),
                 END_YEAR, String.valueOf(END_YEAR_VALUE),
                 SMOOTHING, String.valueOf(SMOOTHING_VALUE),
                 CASE_INSENSITIVE, String.valueOf(IS_CASE_INSENSITIVE));
-        return super.requestList(URL, params, GoogleDto.class);
     }
 }
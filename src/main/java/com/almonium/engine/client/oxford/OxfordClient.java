@@ -4,23 +4,19 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.engine.client.AbstractClient;
 import com.almonium.engine.client.Client;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.RequestSpec;
 import com.almonium.engine.client.oxford.dto.OxfordResponse;
-import lombok.AllArgsConstructor;
-import lombok.NoArgsConstructor;
+import java.util.List;
+import java.util.Map;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
 @Client
-@AllArgsConstructor
-@NoArgsConstructor
-@FieldDefaults(level = PRIVATE)
+@FieldDefaults(level = PRIVATE, makeFinal = true)
 @Slf4j
 public class OxfordClient extends AbstractClient {
     static String API_ID_HEADER_NAME = "app_id";
@@ -37,22 +33,32 @@ public class OxfordClient extends AbstractClient {
     static String LEMMAS = "/lemmas";
     static String LANG_CODE = "/en-us";
 
-    @Value("${external.api.key.oxford}")
-    String apikeyHeaderValue;
+    static String WORD = "word";
 
-    RestTemplate restTemplate;
+    RequestSpec entriesSpec;
 
-    public ResponseEntity<OxfordResponse> submit(String word) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(API_ID_HEADER_NAME, API_ID_HEADER_VALUE);
-        headers.set(APIKEY_HEADER_NAME, apikeyHeaderValue);
+    public OxfordClient(@Value("${external.api.key.oxford}") String apikeyHeaderValue) {
+        this.entriesSpec = RequestSpec.of(
+                BASE_URL + ENTRIES + LANG_CODE + "/{" + WORD + "}",
+                List.of(),
+                Map.of(API_ID_HEADER_NAME, API_ID_HEADER_VALUE, APIKEY_HEADER_NAME, apikeyHeaderValue));
+    }
 
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    public ResponseEntity<OxfordResponse> submit(String word) {
+        return cached(
+                Provider.OXFORD,
+                ENTRIES + LANG_CODE,
+                word,
+                typeOf(OxfordResponse.class),
+                () -> request(entriesSpec, Map.of(WORD, word), OxfordResponse.class));
+    }
 
-        return restTemplate.exchange(
-                BASE_URL + ENTRIES + LANG_CODE + '/' + word,
-                HttpMethod.GET,
-                new HttpEntity<>(headers),
-                OxfordResponse.class);
+    public Mono<ResponseEntity<OxfordResponse>> submitAsync(String word) {
+        return cachedAsync(
+                Provider.OXFORD,
+                ENTRIES + LANG_CODE,
+                word,
+                typeOf(OxfordResponse.class),
+                () -> requestAsync(entriesSpec, Map.of(WORD, word), OxfordResponse.class));
     }
 }
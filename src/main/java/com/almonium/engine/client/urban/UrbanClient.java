@@ -4,26 +4,19 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.engine.client.AbstractClient;
 import com.almonium.engine.client.Client;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.RequestSpec;
 import com.almonium.engine.client.urban.dto.UrbanResponse;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
-import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 @Client
-@NoArgsConstructor
-@AllArgsConstructor
-@FieldDefaults(level = PRIVATE)
+@FieldDefaults(level = PRIVATE, makeFinal = true)
 @Slf4j
 public class UrbanClient extends AbstractClient {
     private static final String URBAN_API_AUTH_HEADER_HOST = "X-RapidAPI-Host";
@@ -31,27 +24,34 @@ public class UrbanClient extends AbstractClient {
     private static final String URBAN_API_AUTH_HEADER_KEY = "X-RapidAPI-Key";
     private static final String BASE_URL = "https://mashape-community-urban-dictionary.p.rapidapi.com";
     private static final String ENDPOINT = "/define";
+    private static final String TERM = "term";
 
-    @Value("${external.api.key.urban}")
-    String urbanApiAuthHeaderKeyValue;
+    RequestSpec defineSpec;
 
-    RestTemplate restTemplate;
+    public UrbanClient(@Value("${external.api.key.urban}") String urbanApiAuthHeaderKeyValue) {
+        this.defineSpec = RequestSpec.of(
+                BASE_URL + ENDPOINT,
+                List.of(TERM),
+                Map.of(
+                        URBAN_API_AUTH_HEADER_HOST, URBAN_API_AUTH_HEADER_HOST_VALUE,
+                        URBAN_API_AUTH_HEADER_KEY, urbanApiAuthHeaderKeyValue));
+    }
 
     public ResponseEntity<UrbanResponse> submit(String word) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(URBAN_API_AUTH_HEADER_HOST, URBAN_API_AUTH_HEADER_HOST_VALUE);
-        headers.set(URBAN_API_AUTH_HEADER_KEY, urbanApiAuthHeaderKeyValue);
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-
-        String urlTemplate = UriComponentsBuilder.fromHttpUrl(BASE_URL + ENDPOINT)
-                .queryParam("term", "{term}")
-                .encode()
-                .toUriString();
-
-        Map<String, String> params = new HashMap<>();
-        params.put("term", word);
+        return cached(
+                Provider.URBAN,
+                ENDPOINT,
+                word,
+                typeOf(UrbanResponse.class),
+                () -> request(defineSpec, Map.of(TERM, word), UrbanResponse.class));
+    }
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), UrbanResponse.class, params);
+    public Mono<ResponseEntity<UrbanResponse>> submitAsync(String word) {
+        return cachedAsync(
+                Provider.URBAN,
+                ENDPOINT,
+                word,
+                typeOf(UrbanResponse.class),
+                () -> requestAsync(defineSpec, Map.of(TERM, word), UrbanResponse.class));
     }
 }
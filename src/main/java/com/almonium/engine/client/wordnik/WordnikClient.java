@@ -4,29 +4,21 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.engine.client.AbstractClient;
 import com.almonium.engine.client.Client;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.RequestSpec;
 import com.almonium.engine.client.wordnik.dto.WordnikAudioDto;
 import com.almonium.engine.client.wordnik.dto.WordnikRandomWordDto;
-import com.almonium.util.GeneralUtils;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
-import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
 @Client
-@NoArgsConstructor
-@AllArgsConstructor
-@FieldDefaults(level = PRIVATE)
+@FieldDefaults(level = PRIVATE, makeFinal = true)
 @Slf4j
 public class WordnikClient extends AbstractClient {
     static int START_YEAR_VALUE = 1950;
@@ -44,6 +36,7 @@ public class WordnikClient extends AbstractClient {
     static final String PHRASES = "/phrases";
     static final String AUDIO = "/audio";
     static final String RANDOM_WORD = "";
+    static final String WORD = "word";
     static final String USE_CANONICAL = "useCanonical";
     static final String END_YEAR = "endYear";
     static final String START_YEAR = "startYear";
@@ -51,39 +44,42 @@ public class WordnikClient extends AbstractClient {
     static final String MIN_LENGTH = "minLength";
     static final String INCLUDE_POS = "includePartOfSpeech";
     static final String HAS_DICT_DEF = "hasDictionaryDef";
+    static final ParameterizedTypeReference<List<WordnikAudioDto>> AUDIO_LIST = new ParameterizedTypeReference<>() {};
     static final String INCLUDE_POS_VALUE = "noun%2Cadjective%2Cadverb%2Cverb-intransitive%2Cverb-transitive";
 
-    @Value("${external.api.key.wordnik}")
-    String apikeyHeaderValue;
+    RequestSpec randomWordSpec;
+    RequestSpec audioSpec;
 
-    RestTemplate restTemplate;
+    public WordnikClient(@Value("${external.api.key.wordnik}") String apikeyHeaderValue) {
+        Map<String, String> headers = Map.of(APIKEY_HEADER_NAME, apikeyHeaderValue);
+        this.randomWordSpec = RequestSpec.of(BASE_URL_WORDS, List.of(HAS_DICT_DEF, INCLUDE_POS, MIN_LENGTH), headers);
+        this.audioSpec = RequestSpec.of(BASE_URL + "{" + WORD + "}" + AUDIO, List.of(), headers);
+    }
 
     public ResponseEntity<WordnikRandomWordDto> getRandomWord() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(APIKEY_HEADER_NAME, apikeyHeaderValue);
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-
-        Map<String, Object> params = new HashMap<>();
-        params.put(HAS_DICT_DEF, true);
-        params.put(INCLUDE_POS, INCLUDE_POS_VALUE);
-        params.put(MIN_LENGTH, 5);
-
-        String urlTemplate = GeneralUtils.queryBuilder(BASE_URL_WORDS, List.of(HAS_DICT_DEF, INCLUDE_POS, MIN_LENGTH));
-
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), WordnikRandomWordDto.class, params);
+        return guarded(
+                Provider.WORDNIK,
+                () -> request(
+                        randomWordSpec,
+                        Map.of(HAS_DICT_DEF, true, INCLUDE_POS, INCLUDE_POS_VALUE, MIN_LENGTH, 5),
+                        WordnikRandomWordDto.class));
     }
 
     public ResponseEntity<List<WordnikAudioDto>> getAudioFile(String word) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(APIKEY_HEADER_NAME, apikeyHeaderValue);
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-
-        String urlTemplate = GeneralUtils.queryBuilder(BASE_URL + word + AUDIO, List.of());
-
-        Map<String, Object> params = new HashMap<>();
+        return cached(
+                Provider.WORDNIK,
+                AUDIO,
+                word,
+                listOf(WordnikAudioDto.class),
+                () -> request(audioSpec, Map.of(WORD, word), AUDIO_LIST));
+    }
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), new ParameterizedTypeReference<>() {}, params);
+    public Mono<ResponseEntity<List<WordnikAudioDto>>> getAudioFileAsync(String word) {
+        return cachedAsync(
+                Provider.WORDNIK,
+                AUDIO,
+                word,
+                listOf(WordnikAudioDto.class),
+                () -> requestAsync(audioSpec, Map.of(WORD, word), AUDIO_LIST));
     }
 }
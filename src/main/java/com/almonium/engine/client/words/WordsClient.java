@@ -4,20 +4,16 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.engine.client.AbstractClient;
 import com.almonium.engine.client.Client;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.RequestSpec;
 import com.almonium.engine.client.words.dto.WordsReportDto;
-import com.almonium.util.GeneralUtils;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
 @Client
 @FieldDefaults(level = PRIVATE, makeFinal = true)
@@ -28,41 +24,37 @@ public class WordsClient extends AbstractClient {
     private static final String API_KEY_HEADER_NAME = "X-RapidAPI-Key";
     private static final String BASE_URL = "https://wordsapiv1.p.rapidapi.com/words/";
     private static final String RANDOM = "random";
+    private static final String WORD = "word";
 
-    RestTemplate restTemplate;
-    String apiKeyHeaderValue;
+    RequestSpec reportSpec;
+    RequestSpec randomSpec;
 
-    public WordsClient(RestTemplate restTemplate, @Value("${external.api.key.words}") String apiKeyHeaderValue) {
-        this.restTemplate = restTemplate;
-        this.apiKeyHeaderValue = apiKeyHeaderValue;
+    public WordsClient(@Value("${external.api.key.words}") String apiKeyHeaderValue) {
+        Map<String, String> headers =
+                Map.of(API_ID_HEADER_NAME, API_ID_HEADER_VALUE, API_KEY_HEADER_NAME, apiKeyHeaderValue);
+        this.reportSpec = RequestSpec.of(BASE_URL + "{" + WORD + "}", List.of(), headers);
+        this.randomSpec = RequestSpec.of(BASE_URL, List.of(RANDOM), headers);
     }
 
     public ResponseEntity<WordsReportDto> getReport(String word) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(API_ID_HEADER_NAME, API_ID_HEADER_VALUE);
-        headers.set(API_KEY_HEADER_NAME, apiKeyHeaderValue);
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-
-        String urlTemplate = GeneralUtils.queryBuilder(BASE_URL + word, List.of());
-
-        Map<String, Object> params = new HashMap<>();
+        return cached(
+                Provider.WORDS,
+                BASE_URL,
+                word,
+                typeOf(WordsReportDto.class),
+                () -> request(reportSpec, Map.of(WORD, word), WordsReportDto.class));
+    }
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), WordsReportDto.class, params);
+    public Mono<ResponseEntity<WordsReportDto>> getReportAsync(String word) {
+        return cachedAsync(
+                Provider.WORDS,
+                BASE_URL,
+                word,
+                typeOf(WordsReportDto.class),
+                () -> requestAsync(reportSpec, Map.of(WORD, word), WordsReportDto.class));
     }
 
     public ResponseEntity<WordsReportDto> getRandomWord() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(API_ID_HEADER_NAME, API_ID_HEADER_VALUE);
-        headers.set(API_KEY_HEADER_NAME, apiKeyHeaderValue);
-        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-
-        String urlTemplate = GeneralUtils.queryBuilder(BASE_URL, List.of(RANDOM));
-
-        Map<String, Object> params = new HashMap<>();
-        params.put(RANDOM, true);
-
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), WordsReportDto.class, params);
+        return guarded(Provider.WORDS, () -> request(randomSpec, Map.of(RANDOM, true), WordsReportDto.class));
     }
 }
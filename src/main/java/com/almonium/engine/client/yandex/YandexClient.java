@@ -4,8 +4,11 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.engine.client.AbstractClient;
 import com.almonium.engine.client.Client;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.RequestSpec;
 import com.almonium.engine.client.yandex.dto.YandexDto;
 import com.almonium.engine.translator.model.enums.Language;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import lombok.AllArgsConstructor;
@@ -14,6 +17,7 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
 
 @Client
 @NoArgsConstructor
@@ -25,20 +29,46 @@ public class YandexClient extends AbstractClient {
     static final String LANG = "lang";
     static final String TEXT = "text";
     static final String KEY = "key";
+    static final RequestSpec LOOKUP = RequestSpec.of(URL, List.of(KEY, TEXT, LANG));
 
     @Value("${external.api.key.yandex}")
     String keyValue;
 
     public ResponseEntity<YandexDto> translate(String word, Language from, Language to) {
-        String langPair = String.format(
-                "%s-%s", from.name().toLowerCase(Locale.ROOT), to.name().toLowerCase(Locale.ROOT));
-
-        return super.request(
-                URL,
-                Map.of(
-                        KEY, keyValue,
-                        TEXT, word,
-                        LANG, langPair),
-                YandexDto.class);
+        String langPair = langPair(from, to);
+
+        return cached(
+                Provider.YANDEX,
+                langPair,
+                word,
+                typeOf(YandexDto.class),
+                () -> super.request(
+                        LOOKUP,
+                        Map.of(
+                                KEY, keyValue,
+                                TEXT, word,
+                                LANG, langPair),
+                        YandexDto.class));
+    }
+
+    public Mono<ResponseEntity<YandexDto>> translateAsync(String word, Language from, Language to) {
+        String langPair = langPair(from, to);
+
+        return cachedAsync(
+                Provider.YANDEX,
+                langPair,
+                word,
+                typeOf(YandexDto.class),
+                () -> super.requestAsync(
+                        LOOKUP,
+                        Map.of(
+                                KEY, keyValue,
+                                TEXT, word,
+                                LANG, langPair),
+                        YandexDto.class));
+    }
+
+    private static String langPair(Language from, Language to) {
+        return String.format("%s-%s", from.name().toLowerCase(Locale.ROOT), to.name().toLowerCase(Locale.ROOT));
     }
 }
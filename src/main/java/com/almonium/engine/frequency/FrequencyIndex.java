@@ -0,0 +1,166 @@
+package com.almonium.engine.frequency;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.translator.model.enums.Language;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-language word frequencies (relative Google Books Ngram frequencies) served from local tables.
+ * A table written by {@link FrequencyRefresher} into the data directory is memory-mapped at startup;
+ * languages without one fall back to the seed list bundled on the classpath.
+ * Words that miss the table are remembered, so that the next refresh fetches them.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class FrequencyIndex {
+    private static final String SEED_LOCATION = "classpath:frequency/%s.tsv";
+    private static final String TABLE_SUFFIX = ".freq";
+    private static final double LOW_BOUND = 1e-9;
+    private static final double OFFSET = 10;
+    private static final double SCALE = 1.153315895823627;
+    private static final int MAX_RECORDED_MISSES = 10_000;
+
+    Path directory;
+    ResourceLoader resourceLoader;
+    Map<Language, Set<String>> misses = new EnumMap<>(Language.class);
+
+    @NonFinal
+    volatile Map<Language, FrequencyTable> tables = Map.of();
+
+    public FrequencyIndex(@Value("${app.frequency.directory}") Path directory, ResourceLoader resourceLoader) {
+        this.directory = directory;
+        this.resourceLoader = resourceLoader;
+        Map<Language, FrequencyTable> loaded = new EnumMap<>(Language.class);
+        for (Language language : Language.values()) {
+            load(language).ifPresent(table -> loaded.put(language, table));
+            misses.put(language, ConcurrentHashMap.newKeySet());
+        }
+        this.tables = loaded;
+        log.info("Loaded word frequency tables for {}", loaded.keySet());
+    }
+
+    public OptionalDouble frequency(String word, Language language) {
+        OptionalDouble frequency = lookup(word, language);
+        if (frequency.isEmpty()) {
+            Set<String> missed = misses.get(language);
+            if (missed.size() < MAX_RECORDED_MISSES) {
+                missed.add(FrequencyTable.normalize(word));
+            }
+        }
+        return frequency;
+    }
+
+    public boolean contains(String word, Language language) {
+        return lookup(word, language).isPresent();
+    }
+
+    /**
+     * Returns the frequency on the 0 to 10 scale shown to learners, where 10 is about the frequency of "the".
+     */
+    public OptionalDouble score(String word, Language language) {
+        OptionalDouble frequency = frequency(word, language);
+        return frequency.isPresent() ? OptionalDouble.of(toScore(frequency.getAsDouble())) : OptionalDouble.empty();
+    }
+
+    /**
+     * Converts a relative frequency to the 0 to 10 scale, for frequencies fetched outside the index.
+     */
+    public static double toScore(double frequency) {
+        if (frequency == 0) {
+            return 0;
+        }
+        if (frequency < LOW_BOUND) {
+            return 1;
+        }
+        return SCALE * (Math.log10(frequency) + OFFSET);
+    }
+
+    /**
+     * Adds the frequencies to the language's table, writes it to disk and swaps it in.
+     * Words already in the table keep their slot and get the new value.
+     */
+    public synchronized void update(Language language, Map<String, Double> frequencies) throws IOException {
+        FrequencyTable current = tables.get(language);
+        FrequencyTable updated = current == null ? FrequencyTable.of(frequencies) : current.with(frequencies);
+        updated.write(tablePath(language));
+        reload(language);
+    }
+
+    /**
+     * Returns the words that missed the table since the last call and forgets them.
+     */
+    public Set<String> drainMisses(Language language) {
+        Set<String> missed = misses.get(language);
+        Set<String> drained = new HashSet<>(missed);
+        missed.removeAll(drained);
+        return drained;
+    }
+
+    /**
+     * Swaps in the table currently on disk for the language; lookups in flight keep using the previous one.
+     */
+    public synchronized void reload(Language language) {
+        Map<Language, FrequencyTable> updated = new EnumMap<>(Language.class);
+        updated.putAll(tables);
+        load(language).ifPresentOrElse(table -> updated.put(language, table), () -> updated.remove(language));
+        tables = updated;
+    }
+
+    public Path tablePath(Language language) {
+        return directory.resolve(code(language) + TABLE_SUFFIX);
+    }
+
+    private OptionalDouble lookup(String word, Language language) {
+        FrequencyTable table = tables.get(language);
+        return table == null ? OptionalDouble.empty() : table.get(word);
+    }
+
+    private Optional<FrequencyTable> load(Language language) {
+        Path path = tablePath(language);
+        if (Files.isRegularFile(path)) {
+            try {
+                return Optional.of(FrequencyTable.map(path));
+            } catch (IOException | IllegalArgumentException e) {
+                log.error("Failed to map frequency table {}, falling back to the seed list", path, e);
+            }
+        }
+        return readSeed(language).map(FrequencyTable::of);
+    }
+
+    private Optional<Map<String, Double>> readSeed(Language language) {
+        Resource seed = resourceLoader.getResource(SEED_LOCATION.formatted(code(language)));
+        if (!seed.exists()) {
+            return Optional.empty();
+        }
+        try (InputStream input = seed.getInputStream()) {
+            return Optional.of(FrequencyTable.parseTsv(input));
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to read frequency seed {}", seed, e);
+            return Optional.empty();
+        }
+    }
+
+    private static String code(Language language) {
+        return language.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,68 @@
+package com.almonium.engine.frequency;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.engine.client.google.GoogleClient;
+import com.almonium.engine.translator.model.enums.Language;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grows the local frequency tables from the Google Books Ngram API, off the request path,
+ * on the configured schedule (daily by default, since the bundled seed lists only cover the most common words).
+ * The vocabulary is what learners actually use: entries of their cards and words that recently missed the index.
+ * The 2019 corpus does not change, so words already in a table are not fetched again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class FrequencyRefresher {
+    GoogleClient googleClient;
+    FrequencyIndex frequencyIndex;
+    CardRepository cardRepository;
+
+    @Scheduled(cron = "${app.frequency.refresh-cron}")
+    public void refreshAll() {
+        for (Language language : Language.values()) {
+            Set<String> words = new LinkedHashSet<>(frequencyIndex.drainMisses(language));
+            words.addAll(cardRepository.findDistinctEntriesByLanguage(language));
+            words.removeIf(word -> word.isBlank() || frequencyIndex.contains(word, language));
+            if (!words.isEmpty()) {
+                refresh(language, words);
+            }
+        }
+    }
+
+    public void refresh(Language language, Collection<String> words) {
+        Map<String, Double> frequencies = new LinkedHashMap<>();
+        for (String word : words) {
+            try {
+                googleClient.getFrequency(word, language).ifPresent(frequency -> frequencies.put(word, frequency));
+            } catch (RuntimeException e) {
+                log.warn("Skipping frequency of '{}' ({}): {}", word, language, e.toString());
+            }
+        }
+        if (frequencies.isEmpty()) {
+            log.warn("No {} frequencies fetched, keeping the current table", language);
+            return;
+        }
+        try {
+            frequencyIndex.update(language, frequencies);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + language + " frequency table", e);
+        }
+        log.info("Added {} of {} words to the {} frequency table", frequencies.size(), words.size(), language);
+    }
+}
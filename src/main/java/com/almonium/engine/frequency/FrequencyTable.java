@@ -0,0 +1,174 @@
+package com.almonium.engine.frequency;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalDouble;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Immutable word frequency table for one language.
+ * Words are stored as sorted 64-bit hashes with a parallel array of frequencies and looked up by binary search,
+ * so a lookup reads a handful of primitives and allocates nothing.
+ * A word is identified by its 64-bit FNV-1a hash alone, so a lookup trusts a matching hash without verifying the
+ * word: for a million-word table the chance that any two words collide is about 3e-8 and the chance that a given
+ * absent word hits an entry is about 5e-14, and either would only yield a wrong frequency, not an error.
+ * The binary layout is {@code int magic, int count, long[count] hashes, double[count] frequencies};
+ * tables written by {@link #write} are memory-mapped rather than read onto the heap.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public final class FrequencyTable {
+    private static final int MAGIC = 0x46525131; // FRQ1
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    ByteBuffer buffer;
+    int size;
+    LongBuffer hashes;
+    DoubleBuffer frequencies;
+
+    private FrequencyTable(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a frequency table");
+        }
+        this.buffer = buffer;
+        this.size = buffer.getInt(Integer.BYTES);
+        this.hashes = buffer.slice(HEADER_BYTES, size * Long.BYTES).asLongBuffer();
+        this.frequencies =
+                buffer.slice(HEADER_BYTES + size * Long.BYTES, size * Double.BYTES).asDoubleBuffer();
+    }
+
+    public static FrequencyTable map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return new FrequencyTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static FrequencyTable of(Map<String, Double> frequencies) {
+        return new FrequencyTable(encode(byHash(frequencies)));
+    }
+
+    /**
+     * Writes the table next to the target and moves it into place, so readers never see a partial file.
+     */
+    public static void write(Path path, Map<String, Double> frequencies) throws IOException {
+        of(frequencies).write(path);
+    }
+
+    /**
+     * Instance counterpart of {@link #write(Path, Map)}.
+     */
+    public void write(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer content = buffer.duplicate().clear();
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns a heap copy of this table with the given words added or overwritten.
+     * Only hashes are stored, so this is the way to grow a table whose original words are not known.
+     */
+    public FrequencyTable with(Map<String, Double> updates) {
+        Map<Long, Double> merged = new HashMap<>(size + updates.size());
+        for (int i = 0; i < size; i++) {
+            merged.put(hashes.get(i), frequencies.get(i));
+        }
+        merged.putAll(byHash(updates));
+        return new FrequencyTable(encode(merged));
+    }
+
+    /**
+     * Reads {@code word<TAB>frequency} lines; blank lines and lines starting with {@code #} are ignored.
+     */
+    public static Map<String, Double> parseTsv(InputStream input) throws IOException {
+        Map<String, Double> frequencies = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                frequencies.put(normalize(columns[0]), Double.parseDouble(columns[1]));
+            }
+        }
+        return frequencies;
+    }
+
+    public OptionalDouble get(String word) {
+        long hash = hash(normalize(word));
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midHash = hashes.get(mid);
+            if (midHash < hash) {
+                low = mid + 1;
+            } else if (midHash > hash) {
+                high = mid - 1;
+            } else {
+                return OptionalDouble.of(frequencies.get(mid));
+            }
+        }
+        return OptionalDouble.empty();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static Map<Long, Double> byHash(Map<String, Double> frequencies) {
+        Map<Long, Double> byHash = new HashMap<>(frequencies.size());
+        frequencies.forEach((word, frequency) -> byHash.put(hash(normalize(word)), frequency));
+        return byHash;
+    }
+
+    private static ByteBuffer encode(Map<Long, Double> byHash) {
+        long[] sortedHashes = byHash.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + sortedHashes.length * (Long.BYTES + Double.BYTES));
+        buffer.putInt(MAGIC).putInt(sortedHashes.length);
+        Arrays.stream(sortedHashes).forEach(buffer::putLong);
+        Arrays.stream(sortedHashes).forEach(hash -> buffer.putDouble(byHash.get(hash)));
+        return buffer.flip();
+    }
+
+    static String normalize(String word) {
+        return word.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // 64-bit FNV-1a, see the class comment for the collision odds
+    static long hash(String word) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < word.length(); i++) {
+            hash ^= word.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
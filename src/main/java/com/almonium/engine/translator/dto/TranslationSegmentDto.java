@@ -0,0 +1,6 @@
+package com.almonium.engine.translator.dto;
+
+/**
+ * One translated chunk of a streamed bulk translation; segments are emitted in source order.
+ */
+public record TranslationSegmentDto(int index, String text) {}
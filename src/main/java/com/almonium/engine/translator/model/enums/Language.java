@@ -1,14 +1,23 @@
 package com.almonium.engine.translator.model.enums;
 
+import static lombok.AccessLevel.PRIVATE;
+
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 
 @Getter
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
 public enum Language {
-    EN,
-    DE,
-    FR,
-    ES,
-    UK,
-    RU,
-    PL
+    EN("en-US"),
+    DE("de-DE"),
+    FR("fr-FR"),
+    ES("es-ES"),
+    UK("uk-UA"),
+    RU("ru-RU"),
+    PL("pl-PL");
+
+    // locale of the text-to-speech voice, as clients pass it to the pronunciation endpoints
+    String speechCode;
 }
@@ -0,0 +1,10 @@
+package com.almonium.engine.translator.service;
+
+import com.almonium.engine.translator.dto.TranslationSegmentDto;
+import com.almonium.engine.translator.model.enums.Language;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+public interface BulkTranslationService {
+    void translate(Reader text, Language targetLang, Consumer<TranslationSegmentDto> sink);
+}
@@ -0,0 +1,8 @@
+package com.almonium.engine.translator.service;
+
+import com.almonium.engine.translator.dto.TranslationCardDto;
+import com.almonium.engine.translator.model.enums.Language;
+
+public interface MultiProviderTranslationService {
+    TranslationCardDto translate(String entry, Language sourceLang, Language targetLang);
+}
@@ -0,0 +1,25 @@
+package com.almonium.engine.translator.service;
+
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.translator.dto.TranslationCardDto;
+import com.almonium.engine.translator.model.enums.Language;
+
+/**
+ * A translator listed in the translator table that can translate single entries.
+ */
+public interface TranslationProvider {
+    /**
+     * The name of the translator in the translator table.
+     */
+    String getName();
+
+    /**
+     * The external provider called, which determines the latency budget of a call.
+     */
+    Provider getProvider();
+
+    /**
+     * Returns the translation card, or null if the provider has no translation for the entry.
+     */
+    TranslationCardDto translate(String entry, Language sourceLang, Language targetLang);
+}
@@ -0,0 +1,84 @@
+package com.almonium.engine.translator.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.client.ExternalCallExecutor;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.translator.dto.TranslationSegmentDto;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.BulkTranslationService;
+import com.almonium.engine.translator.service.TranslationService;
+import com.almonium.engine.translator.util.SentenceChunker;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Translates long texts as a pipeline: the text is cut into sentence-aligned chunks while it is being read,
+ * up to {@code maxInFlight} chunks are translated concurrently, and translated segments are handed to the sink
+ * in source order as soon as each one is ready. Memory is bounded by the in-flight window, not the text length.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class BulkTranslationServiceImpl implements BulkTranslationService {
+    TranslationService googleService;
+    ExternalCallExecutor externalCalls;
+    int chunkLength;
+    int maxInFlight;
+
+    public BulkTranslationServiceImpl(
+            TranslationService googleService,
+            ExternalCallExecutor externalCalls,
+            @Value("${app.translation.bulk.chunk-length}") int chunkLength,
+            @Value("${app.translation.bulk.max-in-flight}") int maxInFlight) {
+        this.googleService = googleService;
+        this.externalCalls = externalCalls;
+        this.chunkLength = chunkLength;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public void translate(Reader text, Language targetLang, Consumer<TranslationSegmentDto> sink) {
+        String targetCode = targetLang.name().toLowerCase(Locale.ROOT);
+        SentenceChunker chunker = new SentenceChunker(text, chunkLength, Locale.ROOT);
+        Deque<CompletableFuture<String>> inFlight = new ArrayDeque<>(maxInFlight);
+        int index = 0;
+        try {
+            while (chunker.hasNext()) {
+                String chunk = chunker.next();
+                inFlight.add(externalCalls.submit(
+                        Provider.GOOGLE_CLOUD, () -> googleService.bulkTranslateText(chunk, targetCode)));
+                if (inFlight.size() == maxInFlight) {
+                    sink.accept(new TranslationSegmentDto(index++, join(inFlight.poll())));
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                sink.accept(new TranslationSegmentDto(index++, join(inFlight.poll())));
+            }
+        } finally {
+            // only non-empty if the stream was aborted, by a failed chunk or a disconnected client
+            inFlight.forEach(future -> future.cancel(true));
+        }
+        log.info("Streamed bulk translation to {} in {} segments", targetLang, index);
+    }
+
+    private static String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
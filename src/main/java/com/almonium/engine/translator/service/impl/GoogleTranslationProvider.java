@@ -0,0 +1,53 @@
+package com.almonium.engine.translator.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.ProviderGuard;
+import com.almonium.engine.translator.dto.DefinitionDto;
+import com.almonium.engine.translator.dto.TranslationCardDto;
+import com.almonium.engine.translator.dto.TranslationDto;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.TranslationProvider;
+import com.almonium.engine.translator.service.TranslationService;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+/**
+ * Machine translation of an entry; unlike a dictionary it yields a single translation without part of speech.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class GoogleTranslationProvider implements TranslationProvider {
+    TranslationService googleService;
+    ProviderGuard providerGuard;
+
+    @Override
+    public String getName() {
+        return "GOOGLE";
+    }
+
+    @Override
+    public Provider getProvider() {
+        return Provider.GOOGLE_CLOUD;
+    }
+
+    @Override
+    public TranslationCardDto translate(String entry, Language sourceLang, Language targetLang) {
+        String translated = providerGuard.execute(
+                getProvider(),
+                () -> googleService.bulkTranslateText(entry, targetLang.name().toLowerCase(Locale.ROOT)));
+        if (translated == null || translated.isBlank()) {
+            return null;
+        }
+        TranslationDto translation = TranslationDto.builder().text(translated).build();
+        DefinitionDto definition = DefinitionDto.builder()
+                .text(entry)
+                .translations(new TranslationDto[] {translation})
+                .build();
+        return new TranslationCardDto(getName(), new DefinitionDto[] {definition});
+    }
+}
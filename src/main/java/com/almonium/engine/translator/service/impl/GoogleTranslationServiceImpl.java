@@ -15,6 +15,7 @@ import com.google.cloud.translate.v3.TranslateTextRequest;
 import com.google.cloud.translate.v3.TranslateTextResponse;
 import com.google.cloud.translate.v3.TranslationServiceClient;
 import com.google.protobuf.ByteString;
+import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
@@ -45,6 +46,11 @@ public class GoogleTranslationServiceImpl implements TranslationService {
         textToSpeechClient = TextToSpeechClient.create();
     }
 
+    @PostConstruct
+    void initParent() {
+        parent = LocationName.of(projectId, parentLocation);
+    }
+
     @SneakyThrows
     @Override
     public ByteString textToSpeech(String languageCode, String text) {
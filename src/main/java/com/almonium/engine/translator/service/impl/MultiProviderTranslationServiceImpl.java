@@ -0,0 +1,182 @@
+package com.almonium.engine.translator.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.client.ExternalCallExecutor;
+import com.almonium.engine.translator.dto.DefinitionDto;
+import com.almonium.engine.translator.dto.TranslationCardDto;
+import com.almonium.engine.translator.dto.TranslationDto;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.MultiProviderTranslationService;
+import com.almonium.engine.translator.service.TranslationProvider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Translates an entry with the translators routed to its language pair.
+ * In {@code hedge} mode translators are tried in priority order: the next one is started as soon as the current one
+ * fails or returns nothing, or once it has been running for the hedge delay, and the first card returned wins.
+ * In {@code merge} mode all translators are called at once and their cards are merged in priority order.
+ * Every call is bounded by its provider's timeout; rate limiting and circuit breaking are left to the provider guard,
+ * so a translator whose provider is unavailable simply yields nothing.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class MultiProviderTranslationServiceImpl implements MultiProviderTranslationService {
+    public enum Mode {
+        HEDGE,
+        MERGE
+    }
+
+    TranslatorRegistry translatorRegistry;
+    ExternalCallExecutor externalCalls;
+    Map<String, TranslationProvider> providers = new HashMap<>();
+    Mode mode;
+    Executor hedgeTimer;
+
+    public MultiProviderTranslationServiceImpl(
+            TranslatorRegistry translatorRegistry,
+            ExternalCallExecutor externalCalls,
+            List<TranslationProvider> translationProviders,
+            @Value("${app.translation.providers.mode}") String mode,
+            @Value("${app.translation.providers.hedge-delay-millis}") long hedgeDelayMillis) {
+        this.translatorRegistry = translatorRegistry;
+        this.externalCalls = externalCalls;
+        this.mode = Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+        this.hedgeTimer = CompletableFuture.delayedExecutor(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+        for (TranslationProvider provider : translationProviders) {
+            providers.put(provider.getName(), provider);
+        }
+    }
+
+    @Override
+    public TranslationCardDto translate(String entry, Language sourceLang, Language targetLang) {
+        List<TranslationProvider> routed = new ArrayList<>();
+        for (long translatorId : translatorRegistry.route(sourceLang, targetLang)) {
+            String name = translatorRegistry.getById(translatorId).getName();
+            TranslationProvider provider = providers.get(name);
+            if (provider == null) {
+                log.warn("Translator {} is mapped to {}-{} but not implemented", name, sourceLang, targetLang);
+            } else {
+                routed.add(provider);
+            }
+        }
+        if (routed.isEmpty()) {
+            return null;
+        }
+        return mode == Mode.MERGE
+                ? merge(routed, entry, sourceLang, targetLang)
+                : hedge(routed, entry, sourceLang, targetLang);
+    }
+
+    private TranslationCardDto hedge(
+            List<TranslationProvider> routed, String entry, Language sourceLang, Language targetLang) {
+        CompletableFuture<TranslationCardDto> winner = new CompletableFuture<>();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger pending = new AtomicInteger(routed.size());
+
+        // launching the translator at an index takes the slot from next; a hedge timer or an empty answer only
+        // launches the following translator while its own translator is still the latest one launched
+        IntConsumer launch = new IntConsumer() {
+            @Override
+            public void accept(int index) {
+                if (index >= routed.size() || winner.isDone() || !next.compareAndSet(index, index + 1)) {
+                    return;
+                }
+                hedgeTimer.execute(() -> accept(index + 1));
+                attempt(routed.get(index), entry, sourceLang, targetLang).thenAccept(card -> {
+                    if (card != null) {
+                        winner.complete(card);
+                    } else {
+                        accept(index + 1);
+                    }
+                    if (pending.decrementAndGet() == 0) {
+                        winner.complete(null);
+                    }
+                });
+            }
+        };
+        launch.accept(0);
+        return winner.join();
+    }
+
+    private TranslationCardDto merge(
+            List<TranslationProvider> routed, String entry, Language sourceLang, Language targetLang) {
+        List<CompletableFuture<TranslationCardDto>> calls = routed.stream()
+                .map(provider -> attempt(provider, entry, sourceLang, targetLang))
+                .toList();
+        List<TranslationCardDto> cards = calls.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+        if (cards.size() <= 1) {
+            return cards.isEmpty() ? null : cards.get(0);
+        }
+        return mergeCards(cards);
+    }
+
+    private CompletableFuture<TranslationCardDto> attempt(
+            TranslationProvider provider, String entry, Language sourceLang, Language targetLang) {
+        return externalCalls
+                .submit(provider.getProvider(), () -> provider.translate(entry, sourceLang, targetLang))
+                .handle((card, ex) -> {
+                    if (ex != null) {
+                        log.warn("{} translation failed: {}", provider.getName(), ex.toString());
+                        return null;
+                    }
+                    return card;
+                });
+    }
+
+    /**
+     * Definitions with the same text and part of speech are combined, keeping each translation once;
+     * order follows the priority of the translators.
+     */
+    private static TranslationCardDto mergeCards(List<TranslationCardDto> cards) {
+        Map<String, DefinitionDto> definitions = new LinkedHashMap<>();
+        Map<String, Map<String, TranslationDto>> translations = new HashMap<>();
+        for (TranslationCardDto card : cards) {
+            if (card.getDefinitions() == null) {
+                continue;
+            }
+            for (DefinitionDto definition : card.getDefinitions()) {
+                String key = definition.getText() + '|' + definition.getPos();
+                DefinitionDto merged = definitions.computeIfAbsent(key, k -> DefinitionDto.builder()
+                        .text(definition.getText())
+                        .pos(definition.getPos())
+                        .transcription(definition.getTranscription())
+                        .build());
+                if (merged.getTranscription() == null) {
+                    merged.setTranscription(definition.getTranscription());
+                }
+                Map<String, TranslationDto> byText = translations.computeIfAbsent(key, k -> new LinkedHashMap<>());
+                if (definition.getTranslations() != null) {
+                    Arrays.stream(definition.getTranslations())
+                            .forEach(translation -> byText.putIfAbsent(translation.getText(), translation));
+                }
+            }
+        }
+        definitions.forEach((key, definition) ->
+                definition.setTranslations(translations.get(key).values().toArray(TranslationDto[]::new)));
+
+        String provider = cards.stream().map(TranslationCardDto::getProvider).collect(Collectors.joining(","));
+        return new TranslationCardDto(provider, definitions.values().toArray(DefinitionDto[]::new));
+    }
+}
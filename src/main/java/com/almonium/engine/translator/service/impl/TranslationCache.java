@@ -0,0 +1,80 @@
+package com.almonium.engine.translator.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.translator.dto.TranslationCardDto;
+import com.almonium.engine.translator.model.enums.Language;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size- and TTL-bounded cache of translation cards keyed by language pair and entry, with surrounding whitespace
+ * stripped. Case is kept: "Turkey" and "turkey" or "US" and "us" are translated differently.
+ * Concurrent misses for the same key are coalesced: one caller runs the lookup and the others wait for its result.
+ * Missing translations and failures are not cached, so they are retried on the next request.
+ * Cached cards are shared between callers and must not be modified.
+ */
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class TranslationCache {
+    Cache<Key, TranslationCardDto> cache;
+
+    public TranslationCache(
+            @Value("${app.translation.cache.max-size}") long maxSize,
+            @Value("${app.translation.cache.ttl-minutes}") long ttlMinutes) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached card or loads it, rethrowing whatever the loader throws. Returns null if the loader does.
+     */
+    @SneakyThrows
+    public TranslationCardDto get(
+            Language source, Language target, String entry, Supplier<TranslationCardDto> loader) {
+        try {
+            return cache.get(new Key(source, target, normalize(entry)), () -> {
+                TranslationCardDto card = loader.get();
+                if (card == null) {
+                    throw new NoTranslationException();
+                }
+                return card;
+            });
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            if (e.getCause() instanceof NoTranslationException) {
+                return null;
+            }
+            throw e.getCause();
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static String normalize(String entry) {
+        return entry.strip();
+    }
+
+    private record Key(Language source, Language target, String entry) {}
+
+    // signals a null result through the cache loader, which cannot return null
+    private static class NoTranslationException extends RuntimeException {
+        NoTranslationException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.almonium.engine.translator.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.translator.model.entity.LangPairTranslatorMapping;
+import com.almonium.engine.translator.model.entity.Translator;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.repository.LangPairTranslatorRepository;
+import com.almonium.engine.translator.repository.TranslatorRepository;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory copy of the translator tables, so that routing a translation never touches the database.
+ * The routing table maps every supported language pair to its translator ids in priority order;
+ * it is rebuilt as a whole and swapped in atomically on startup and on the configured schedule.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class TranslatorRegistry {
+    private static final long[] NO_TRANSLATORS = new long[0];
+
+    LangPairTranslatorRepository langPairTranslatorRepository;
+    TranslatorRepository translatorRepository;
+
+    @NonFinal
+    volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.translation.routing.refresh-cron}")
+    public void refresh() {
+        Map<String, Translator> translators = new HashMap<>();
+        Map<Long, Translator> translatorsById = new HashMap<>();
+        for (Translator translator : translatorRepository.findAll()) {
+            translators.put(translator.getName(), translator);
+            translatorsById.put(translator.getId(), translator);
+        }
+
+        Map<Language, Map<Language, List<Long>>> pairs = new EnumMap<>(Language.class);
+        for (LangPairTranslatorMapping mapping : langPairTranslatorRepository.findAll(Sort.by("priority"))) {
+            pairs.computeIfAbsent(mapping.getSourceLang(), lang -> new EnumMap<>(Language.class))
+                    .computeIfAbsent(mapping.getTargetLang(), lang -> new ArrayList<>())
+                    .add(mapping.getTranslatorId());
+        }
+
+        EnumMap<Language, EnumMap<Language, long[]>> routes = new EnumMap<>(Language.class);
+        pairs.forEach((source, targets) -> {
+            EnumMap<Language, long[]> row = new EnumMap<>(Language.class);
+            targets.forEach((target, ids) -> row.put(target, ids.stream().mapToLong(Long::longValue).toArray()));
+            routes.put(source, row);
+        });
+
+        snapshot = new Snapshot(routes, Map.copyOf(translators), Map.copyOf(translatorsById));
+        log.info("Loaded {} translators and routes for {} source languages", translators.size(), routes.size());
+    }
+
+    /**
+     * Returns the ids of the translators supporting the pair, highest priority first; empty if there are none.
+     */
+    public long[] route(Language source, Language target) {
+        EnumMap<Language, long[]> row = snapshot().routes().get(source);
+        long[] ids = row == null ? null : row.get(target);
+        return ids == null ? NO_TRANSLATORS : ids.clone();
+    }
+
+    public Translator getByName(String name) {
+        Translator translator = snapshot().translators().get(name);
+        if (translator == null) {
+            throw new NoSuchElementException("Unknown translator " + name);
+        }
+        return translator;
+    }
+
+    public Translator getById(long id) {
+        Translator translator = snapshot().translatorsById().get(id);
+        if (translator == null) {
+            throw new NoSuchElementException("Unknown translator id " + id);
+        }
+        return translator;
+    }
+
+    public Translator getYandex() {
+        return getByName("YANDEX");
+    }
+
+    public Translator getGoogle() {
+        return getByName("GOOGLE");
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(
+            EnumMap<Language, EnumMap<Language, long[]>> routes,
+            Map<String, Translator> translators,
+            Map<Long, Translator> translatorsById) {}
+}
@@ -0,0 +1,56 @@
+package com.almonium.engine.translator.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.engine.analyzer.mapper.DictionaryDtoMapper;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.yandex.YandexClient;
+import com.almonium.engine.client.yandex.dto.YandexDto;
+import com.almonium.engine.translator.dto.TranslationCardDto;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.TranslationProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class YandexTranslationProvider implements TranslationProvider {
+    YandexClient yandexClient;
+    DictionaryDtoMapper dictionaryDtoMapper;
+
+    @Override
+    public String getName() {
+        return "YANDEX";
+    }
+
+    @Override
+    public Provider getProvider() {
+        return Provider.YANDEX;
+    }
+
+    @Override
+    public TranslationCardDto translate(String entry, Language sourceLang, Language targetLang) {
+        ResponseEntity<YandexDto> responseEntity = yandexClient.translate(entry, sourceLang, targetLang);
+
+        if (responseEntity.getStatusCode().is2xxSuccessful()) {
+            TranslationCardDto card = dictionaryDtoMapper.yandexToGeneral(responseEntity.getBody());
+            card.setProvider(getName());
+            return card;
+        }
+        if (responseEntity.getStatusCode() == HttpStatus.FORBIDDEN) {
+            log.error("LIMIT EXCEEDED");
+        } else if (responseEntity.getStatusCode() == HttpStatus.NOT_IMPLEMENTED) {
+            log.error("Language pair not supported: probably, langPairTranslator table is out of date");
+            throw new IllegalStateException("Unexpectedly not supported lang pair in this provider");
+        } else if (responseEntity.getStatusCode().is4xxClientError()) {
+            log.error(String.valueOf(responseEntity.getBody()));
+        }
+        return null;
+    }
+}
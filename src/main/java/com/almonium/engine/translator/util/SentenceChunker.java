@@ -0,0 +1,92 @@
+package com.almonium.engine.translator.util;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.text.BreakIterator;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+/**
+ * Splits text read from a {@link Reader} into chunks of at most {@code maxLength} characters, cutting on sentence
+ * boundaries where possible, then on whitespace, and only as a last resort mid-word.
+ * At most about {@code maxLength} characters are buffered at a time, so arbitrarily long input is chunked
+ * in constant memory. Chunks keep their whitespace, so concatenating them restores the input.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class SentenceChunker implements Iterator<String> {
+    private static final int READ_SIZE = 8192;
+
+    Reader reader;
+    int maxLength;
+    BreakIterator sentences;
+    StringBuilder buffer = new StringBuilder();
+    char[] readBuffer = new char[READ_SIZE];
+
+    @NonFinal
+    boolean endOfInput;
+
+    public SentenceChunker(Reader reader, int maxLength, Locale locale) {
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("maxLength must be positive");
+        }
+        this.reader = reader;
+        this.maxLength = maxLength;
+        this.sentences = BreakIterator.getSentenceInstance(locale);
+    }
+
+    @Override
+    public boolean hasNext() {
+        fill();
+        return !buffer.isEmpty();
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int cut = buffer.length() <= maxLength ? buffer.length() : findCut();
+        String chunk = buffer.substring(0, cut);
+        buffer.delete(0, cut);
+        return chunk;
+    }
+
+    // called only when the buffer holds more than maxLength characters
+    private int findCut() {
+        // one character of lookahead lets the iterator see whether a sentence ends exactly at maxLength
+        String window = buffer.substring(0, maxLength + 1);
+        sentences.setText(window);
+        int boundary = sentences.preceding(maxLength + 1);
+        if (boundary > 0) {
+            return boundary;
+        }
+        // a cut at i is clean if the chunk ends with whitespace or the next chunk starts with it
+        for (int i = maxLength; i > 0; i--) {
+            if (Character.isWhitespace(window.charAt(i - 1)) || Character.isWhitespace(window.charAt(i))) {
+                return i;
+            }
+        }
+        return maxLength;
+    }
+
+    private void fill() {
+        try {
+            while (!endOfInput && buffer.length() <= maxLength) {
+                int read = reader.read(readBuffer);
+                if (read < 0) {
+                    endOfInput = true;
+                } else {
+                    buffer.append(readBuffer, 0, read);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -4,20 +4,39 @@ import static lombok.AccessLevel.PRIVATE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.almonium.auth.common.model.entity.Principal;
 import com.almonium.base.BaseControllerTest;
+import com.almonium.card.core.dto.CardAudioJobDto;
+import com.almonium.card.core.dto.CardCompletionDto;
 import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.core.dto.CardImportResultDto;
+import com.almonium.card.core.dto.CardPageDto;
 import com.almonium.card.core.dto.CardUpdateDto;
+import com.almonium.card.core.dto.WordFrequencyDto;
+import com.almonium.card.core.exception.InvalidCursorException;
+import com.almonium.card.core.model.enums.CardSort;
+import com.almonium.card.core.service.CardAudioService;
+import com.almonium.card.core.service.CardFrequencyService;
+import com.almonium.card.core.service.CardImportService;
 import com.almonium.card.core.service.CardService;
 import com.almonium.engine.translator.model.enums.Language;
 import com.almonium.user.core.model.entity.Learner;
 import com.almonium.util.TestDataGenerator;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +46,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 @WebMvcTest(CardController.class)
@@ -38,14 +58,32 @@ class CardControllerTest extends BaseControllerTest {
     private static final String CREATE_CARD_URL = BASE_URL;
     private static final String UPDATE_CARD_URL = BASE_URL + ID_PLACEHOLDER;
     private static final String GET_CARDS_URL = BASE_URL;
+    private static final String GET_CARD_PAGE_URL = BASE_URL + "/page";
+    private static final String AUTOCOMPLETE_URL = BASE_URL + "/autocomplete";
+    private static final String IMPORT_URL = BASE_URL + "/import";
+    private static final String IMPORT_FILE_URL = IMPORT_URL + "/file";
     private static final String GET_CARDS_BY_HASH_URL = BASE_URL + "/public" + ID_PLACEHOLDER;
     private static final String GET_CARDS_OF_LANG_URL = BASE_URL + "/lang/{code}";
     private static final String GET_CARD_URL = BASE_URL + ID_PLACEHOLDER;
     private static final String DELETE_CARD_URL = BASE_URL + ID_PLACEHOLDER;
+    private static final String UPDATE_FREQUENCIES_URL = BASE_URL + "/frequency";
+    private static final String GET_FREQUENCIES_URL = BASE_URL + "/frequency/lang/{code}";
+    private static final String PREGENERATE_AUDIO_URL = BASE_URL + "/audio/lang/{code}";
+    private static final String UNKNOWN_JOB = "00000000-0000-0000-0000-000000000000";
+    private static final String GET_AUDIO_JOB_URL = BASE_URL + "/audio/jobs" + ID_PLACEHOLDER;
 
     @MockBean
     CardService cardService;
 
+    @MockBean
+    CardFrequencyService cardFrequencyService;
+
+    @MockBean
+    CardAudioService cardAudioService;
+
+    @MockBean
+    CardImportService cardImportService;
+
     @BeforeEach
     void setUp() {
         Principal principal = TestDataGenerator.buildTestPrincipal();
@@ -88,6 +126,70 @@ class CardControllerTest extends BaseControllerTest {
         verify(cardService).getUsersCards(any(Learner.class));
     }
 
+    @DisplayName("Should retrieve a page of the user's cards in the requested order")
+    @Test
+    @SneakyThrows
+    void givenSortAndCursor_whenGetCardPage_thenReturnsPage() {
+        when(cardService.getUsersCardsPage(any(Learner.class), eq(CardSort.PRIORITY), eq("cursor"), eq(20)))
+                .thenReturn(new CardPageDto(List.of(), "next"));
+
+        mockMvc.perform(get(GET_CARD_PAGE_URL)
+                        .param("sort", "PRIORITY")
+                        .param("cursor", "cursor")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @DisplayName("Should reject a malformed cursor with bad request")
+    @Test
+    @SneakyThrows
+    void givenMalformedCursor_whenGetCardPage_thenReturnsBadRequest() {
+        when(cardService.getUsersCardsPage(any(Learner.class), eq(CardSort.UPDATED), eq("garbage"), eq(50)))
+                .thenThrow(new InvalidCursorException("Malformed cursor"));
+
+        mockMvc.perform(get(GET_CARD_PAGE_URL).param("cursor", "garbage")).andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("Should complete a prefix to the entries of the user's cards")
+    @Test
+    @SneakyThrows
+    void givenPrefix_whenAutocomplete_thenReturnsCompletions() {
+        when(cardService.autocomplete(eq("hou"), eq(5), any(Learner.class)))
+                .thenReturn(List.of(new CardCompletionDto(1L, "house", Language.EN)));
+
+        mockMvc.perform(get(AUTOCOMPLETE_URL).param("prefix", "hou").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].entry").value("house"));
+    }
+
+    @DisplayName("Should import a JSON array of cards")
+    @Test
+    @SneakyThrows
+    void givenJsonArrayOfCards_whenImportCards_thenReturnsCreatedWithResult() {
+        when(cardImportService.importJson(any(Learner.class), any())).thenReturn(new CardImportResultDto(1, 1));
+
+        mockMvc.perform(post(IMPORT_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"entry\":\"house\",\"language\":\"EN\"},{\"entry\":\"home\"}]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.skipped").value(1));
+    }
+
+    @DisplayName("Should import a delimited card file in the given language")
+    @Test
+    @SneakyThrows
+    void givenCsvFile_whenImportFile_thenReturnsCreatedWithResult() {
+        MockMultipartFile file = new MockMultipartFile("file", "deck.csv", "text/csv", "house,дім\n".getBytes());
+        when(cardImportService.importFile(any(Learner.class), any(), eq("deck.csv"), eq(Language.EN)))
+                .thenReturn(new CardImportResultDto(1, 0));
+
+        mockMvc.perform(multipart(IMPORT_FILE_URL).file(file).param("lang", "EN"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.imported").value(1));
+    }
+
     @DisplayName("Should retrieve all cards of a user for a specific language")
     @Test
     @SneakyThrows
@@ -131,4 +233,88 @@ class CardControllerTest extends BaseControllerTest {
 
         verify(cardService).deleteById(cardId);
     }
+
+    @DisplayName("Should recompute frequencies of the user's cards")
+    @Test
+    @SneakyThrows
+    void givenUser_whenUpdateFrequencies_thenReturnUpdatedCount() {
+        when(cardFrequencyService.updateFrequencies(any(Learner.class))).thenReturn(3);
+
+        mockMvc.perform(put(UPDATE_FREQUENCIES_URL))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+
+        verify(cardFrequencyService).updateFrequencies(any(Learner.class));
+    }
+
+    @DisplayName("Should score an uploaded word list")
+    @Test
+    @SneakyThrows
+    void givenWordList_whenGetFrequencies_thenReturnScores() {
+        List<String> words = List.of("the", "zyzzyva");
+        List<WordFrequencyDto> frequencies =
+                List.of(new WordFrequencyDto("the", 10.0), new WordFrequencyDto("zyzzyva", null));
+        when(cardFrequencyService.getFrequencies(Language.EN, words)).thenReturn(frequencies);
+
+        mockMvc.perform(post(GET_FREQUENCIES_URL, Language.EN)
+                        .content(objectMapper.writeValueAsString(words))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(frequencies)));
+    }
+
+    @DisplayName("Should reject a word list with blank words")
+    @Test
+    @SneakyThrows
+    void givenBlankWord_whenGetFrequencies_thenBadRequest() {
+        mockMvc.perform(post(GET_FREQUENCIES_URL, Language.EN)
+                        .content(objectMapper.writeValueAsString(List.of("the", " ")))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(cardFrequencyService);
+    }
+
+    @DisplayName("Should reject a word list above the size limit")
+    @Test
+    @SneakyThrows
+    void givenOversizedWordList_whenGetFrequencies_thenBadRequest() {
+        List<String> words = Collections.nCopies(10_001, "the");
+
+        mockMvc.perform(post(GET_FREQUENCIES_URL, Language.EN)
+                        .content(objectMapper.writeValueAsString(words))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(cardFrequencyService);
+    }
+
+    @DisplayName("Should start pre-generating the audio of the user's cards")
+    @Test
+    @SneakyThrows
+    void givenLanguage_whenPregenerateAudio_thenReturnAcceptedJob() {
+        CardAudioJobDto job =
+                new CardAudioJobDto(UUID.randomUUID(), Language.EN, CardAudioJobDto.Status.RUNNING, 12, 0, 0, 0);
+        when(cardAudioService.pregenerate(any(Learner.class), eq(Language.EN))).thenReturn(job);
+
+        mockMvc.perform(post(PREGENERATE_AUDIO_URL, Language.EN))
+                .andExpect(status().isAccepted())
+                .andExpect(content().json(objectMapper.writeValueAsString(job)));
+    }
+
+    @DisplayName("Should report the progress of an audio job and 404 for an unknown one")
+    @Test
+    @SneakyThrows
+    void givenJobId_whenGetAudioJob_thenReturnProgress() {
+        UUID id = UUID.randomUUID();
+        CardAudioJobDto job = new CardAudioJobDto(id, Language.EN, CardAudioJobDto.Status.COMPLETED, 12, 10, 1, 1);
+        when(cardAudioService.getJob(any(Learner.class), eq(id))).thenReturn(Optional.of(job));
+        when(cardAudioService.getJob(any(Learner.class), eq(UUID.fromString(UNKNOWN_JOB))))
+                .thenReturn(Optional.empty());
+
+        mockMvc.perform(get(GET_AUDIO_JOB_URL, id))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(job)));
+        mockMvc.perform(get(GET_AUDIO_JOB_URL, UNKNOWN_JOB)).andExpect(status().isNotFound());
+    }
 }
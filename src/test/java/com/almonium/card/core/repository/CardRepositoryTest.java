@@ -2,7 +2,14 @@ package com.almonium.card.core.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.mapper.CardMapper;
 import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.model.entity.CardTag;
+import com.almonium.card.core.model.entity.Example;
+import com.almonium.card.core.model.entity.Tag;
+import com.almonium.card.core.model.entity.Translation;
+import com.almonium.card.core.repository.projection.CardEntryView;
 import com.almonium.engine.translator.model.enums.Language;
 import com.almonium.user.core.model.entity.Learner;
 import com.almonium.user.core.model.entity.User;
@@ -10,10 +17,14 @@ import com.almonium.util.TestDataGenerator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
@@ -25,6 +36,9 @@ class CardRepositoryTest {
     private static final Language TEST_LANGUAGE = Language.EN;
     private static final String TEST_ENTRY = "Sample Entry";
     private static final UUID TEST_PUBLIC_ID = UUID.randomUUID();
+    private static final int CARDS_WITH_DETAILS = 30;
+    // loading the cards and their owner plus one query per collection, whatever the number of cards
+    private static final long MAX_QUERIES = 10;
 
     @Autowired
     private TestEntityManager entityManager;
@@ -83,4 +97,79 @@ class CardRepositoryTest {
         assertThat(card).isPresent();
         assertThat(card.get().getPublicId()).isEqualTo(TEST_PUBLIC_ID);
     }
+
+    @DisplayName("Should project entries of the owner's cards")
+    @Test
+    void givenOwner_whenFindEntriesByOwner_thenShouldReturnEntryViews() {
+        List<CardEntryView> entries = cardRepository.findEntriesByOwner(managedLearner);
+        assertThat(entries).singleElement().satisfies(entry -> {
+            assertThat(entry.getId()).isNotNull();
+            assertThat(entry.getEntry()).isEqualTo(TEST_ENTRY);
+            assertThat(entry.getLanguage()).isEqualTo(TEST_LANGUAGE);
+        });
+    }
+
+    @DisplayName("Should load the details of many cards in a bounded number of queries")
+    @Test
+    void givenManyCardsWithDetails_whenFetchDetailsAndMap_thenQueryCountDoesNotGrowWithCards() {
+        Tag tag = entityManager.persist(new Tag("batch"));
+        for (int i = 0; i < CARDS_WITH_DETAILS; i++) {
+            Card card = entityManager.persist(TestDataGenerator.buildTestCard(managedLearner));
+            for (int j = 0; j < 2; j++) {
+                entityManager.persist(Translation.builder().card(card).translation("translation" + j).build());
+                entityManager.persist(Example.builder().card(card).example("example" + j).build());
+            }
+            entityManager.persist(CardTag.builder().card(card).tag(tag).learner(managedLearner).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager
+                .getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Card> cards = cardRepository.findAllByOwner(managedLearner);
+        cardRepository.fetchDetails(cards);
+        List<CardDto> dtos = cards.stream()
+                .map(Mappers.getMapper(CardMapper.class)::cardEntityToDto)
+                .toList();
+        long queries = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        assertThat(dtos).hasSize(CARDS_WITH_DETAILS + 1);
+        assertThat(dtos)
+                .filteredOn(dto -> dto.getTranslations().length == 2
+                        && dto.getExamples().length == 2
+                        && dto.getTags().length == 1)
+                .hasSize(CARDS_WITH_DETAILS);
+        assertThat(queries).isLessThanOrEqualTo(MAX_QUERIES);
+    }
+
+    @DisplayName("Should load the details of more cards than one id chunk holds")
+    @Test
+    void givenMoreCardsThanOneChunk_whenFetchDetails_thenShouldInitializeEveryCard() {
+        for (int i = 0; i < CardRepository.FETCH_BATCH_SIZE + 1; i++) {
+            Card card = entityManager.persist(TestDataGenerator.buildTestCard(managedLearner));
+            entityManager.persist(Translation.builder().card(card).translation("translation").build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Card> cards = cardRepository.findAllByOwner(managedLearner);
+        cardRepository.fetchDetails(cards);
+
+        assertThat(cards).hasSize(CardRepository.FETCH_BATCH_SIZE + 2);
+        assertThat(cards).allSatisfy(card -> {
+            assertThat(Hibernate.isInitialized(card.getTranslations())).isTrue();
+            assertThat(Hibernate.isInitialized(card.getExamples())).isTrue();
+            assertThat(Hibernate.isInitialized(card.getCardTags())).isTrue();
+        });
+        assertThat(cards)
+                .filteredOn(card -> card.getTranslations().size() == 1)
+                .hasSize(CardRepository.FETCH_BATCH_SIZE + 1);
+    }
 }
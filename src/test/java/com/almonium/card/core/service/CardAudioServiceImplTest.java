@@ -0,0 +1,207 @@
+package com.almonium.card.core.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.card.core.dto.CardAudioJobDto;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.projection.CardEntryView;
+import com.almonium.card.core.service.impl.CardAudioServiceImpl;
+import com.almonium.engine.audio.AudioStore;
+import com.almonium.engine.client.ExternalCallExecutor;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.TranslationService;
+import com.almonium.user.core.model.entity.Learner;
+import com.google.protobuf.ByteString;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class CardAudioServiceImplTest {
+    @Mock
+    CardRepository cardRepository;
+
+    @Mock
+    TranslationService googleService;
+
+    @TempDir
+    Path directory;
+
+    AudioStore audioStore;
+    ExternalCallExecutor externalCalls;
+    CardAudioServiceImpl cardAudioService;
+    Learner learner;
+
+    @BeforeEach
+    void setUp() {
+        audioStore = new AudioStore(directory, 1, 1, 0);
+        externalCalls = new ExternalCallExecutor(
+                4, 64, new MockEnvironment().withProperty("app.external.timeouts.default", "5000"));
+        cardAudioService = new CardAudioServiceImpl(cardRepository, audioStore, googleService, externalCalls, 2);
+        learner = new Learner();
+        learner.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cardAudioService.shutdown();
+        externalCalls.shutdown();
+    }
+
+    @DisplayName("Should synthesize the missing audio of the learner's cards in the language")
+    @Test
+    void givenCards_whenPregenerate_thenMissingAudioIsSynthesized() {
+        audioStore.get("en-US", "cat", () -> ByteString.copyFromUtf8("cat"));
+        when(cardRepository.findEntriesByOwner(learner))
+                .thenReturn(List.of(
+                        view("cat", Language.EN),
+                        view("dog", Language.EN),
+                        view("bird ", Language.EN),
+                        view("Hund", Language.DE)));
+        when(googleService.textToSpeech(eq("en-US"), anyString()))
+                .thenAnswer(invocation -> ByteString.copyFromUtf8(invocation.getArgument(1)));
+
+        CardAudioJobDto started = cardAudioService.pregenerate(learner, Language.EN);
+
+        assertThat(started.total()).isEqualTo(3);
+        assertThat(awaitCompletion(started.id()))
+                .isEqualTo(new CardAudioJobDto(
+                        started.id(), Language.EN, CardAudioJobDto.Status.COMPLETED, 3, 2, 1, 0));
+        assertThat(audioStore.contains("en-US", "bird")).isTrue();
+        verify(googleService, never()).textToSpeech("en-US", "cat");
+        verify(googleService, never()).textToSpeech(eq("de-DE"), anyString());
+    }
+
+    @DisplayName("Should keep the deck's audio when other pronunciations fill the store")
+    @Test
+    void givenPregeneratedDeck_whenStoreOverflows_thenDeckAudioIsKept() {
+        when(cardRepository.findEntriesByOwner(learner)).thenReturn(List.of(view("cat", Language.EN)));
+        when(googleService.textToSpeech("en-US", "cat")).thenReturn(ByteString.copyFromUtf8("cat"));
+        awaitCompletion(cardAudioService.pregenerate(learner, Language.EN).id());
+
+        audioStore.get("en-US", "first", () -> ByteString.copyFrom(new byte[600 * 1024]));
+        audioStore.get("en-US", "second", () -> ByteString.copyFrom(new byte[600 * 1024]));
+
+        assertThat(audioStore.contains("en-US", "cat")).isTrue();
+        assertThat(audioStore.contains("en-US", "first")).isFalse();
+    }
+
+    @DisplayName("Should release the pins of the learner's previous job in the language")
+    @Test
+    void givenCardRemovedFromDeck_whenPregenerateAgain_thenItsAudioIsNoLongerPinned() {
+        when(cardRepository.findEntriesByOwner(learner))
+                .thenReturn(List.of(view("cat", Language.EN)), List.of(view("dog", Language.EN)));
+        when(googleService.textToSpeech(eq("en-US"), anyString()))
+                .thenAnswer(invocation -> ByteString.copyFromUtf8(invocation.getArgument(1)));
+        awaitCompletion(cardAudioService.pregenerate(learner, Language.EN).id());
+        awaitCompletion(cardAudioService.pregenerate(learner, Language.EN).id());
+
+        audioStore.get("en-US", "first", () -> ByteString.copyFrom(new byte[600 * 1024]));
+        audioStore.get("en-US", "second", () -> ByteString.copyFrom(new byte[600 * 1024]));
+
+        assertThat(audioStore.contains("en-US", "dog")).isTrue();
+        assertThat(audioStore.contains("en-US", "cat")).isFalse();
+    }
+
+    @DisplayName("Should report a job as queued until the runner starts it")
+    @Test
+    @SneakyThrows
+    void givenRunningJob_whenAnotherIsRequested_thenItIsQueued() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(cardRepository.findEntriesByOwner(learner))
+                .thenReturn(List.of(view("cat", Language.EN), view("Hund", Language.DE)));
+        when(googleService.textToSpeech("en-US", "cat")).thenAnswer(invocation -> {
+            release.await();
+            return ByteString.copyFromUtf8("cat");
+        });
+        when(googleService.textToSpeech("de-DE", "Hund")).thenReturn(ByteString.copyFromUtf8("Hund"));
+
+        UUID english = cardAudioService.pregenerate(learner, Language.EN).id();
+        CardAudioJobDto german = cardAudioService.pregenerate(learner, Language.DE);
+
+        assertThat(german.status()).isEqualTo(CardAudioJobDto.Status.QUEUED);
+        release.countDown();
+        assertThat(awaitCompletion(english).synthesized()).isEqualTo(1);
+        assertThat(awaitCompletion(german.id()).synthesized()).isEqualTo(1);
+    }
+
+    @DisplayName("Should count failed syntheses and still finish the job")
+    @Test
+    void givenFailingSynthesis_whenPregenerate_thenFailureIsCounted() {
+        when(cardRepository.findEntriesByOwner(learner))
+                .thenReturn(List.of(view("cat", Language.EN), view("dog", Language.EN)));
+        when(googleService.textToSpeech(eq("en-US"), anyString())).thenAnswer(invocation -> {
+            if ("dog".equals(invocation.getArgument(1))) {
+                throw new IllegalStateException("quota exceeded");
+            }
+            return ByteString.copyFromUtf8("cat");
+        });
+
+        UUID id = cardAudioService.pregenerate(learner, Language.EN).id();
+
+        CardAudioJobDto job = awaitCompletion(id);
+        assertThat(job.synthesized()).isEqualTo(1);
+        assertThat(job.failed()).isEqualTo(1);
+    }
+
+    @DisplayName("Should not show a job to another learner")
+    @Test
+    void givenJobOfAnotherLearner_whenGetJob_thenEmpty() {
+        when(cardRepository.findEntriesByOwner(learner)).thenReturn(List.of());
+        UUID id = cardAudioService.pregenerate(learner, Language.EN).id();
+        Learner other = new Learner();
+        other.setId(2L);
+
+        assertThat(cardAudioService.getJob(other, id)).isEmpty();
+        assertThat(cardAudioService.getJob(learner, UUID.randomUUID())).isEmpty();
+    }
+
+    @SneakyThrows
+    private CardAudioJobDto awaitCompletion(UUID id) {
+        long deadline = System.currentTimeMillis() + 5000;
+        CardAudioJobDto job = cardAudioService.getJob(learner, id).orElseThrow();
+        while (job.status() != CardAudioJobDto.Status.COMPLETED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            job = cardAudioService.getJob(learner, id).orElseThrow();
+        }
+        return job;
+    }
+
+    private static CardEntryView view(String entry, Language language) {
+        return new CardEntryView() {
+            @Override
+            public Long getId() {
+                return 1L;
+            }
+
+            @Override
+            public String getEntry() {
+                return entry;
+            }
+
+            @Override
+            public Language getLanguage() {
+                return language;
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package com.almonium.card.core.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.card.core.dto.CardCompletionDto;
+import com.almonium.card.core.event.CardChangedEvent;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.projection.CardEntryView;
+import com.almonium.card.core.service.impl.CardAutocompleteIndex;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.user.core.model.entity.Learner;
+import java.util.List;
+import java.util.Optional;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@FieldDefaults(level = PRIVATE)
+class CardAutocompleteIndexTest {
+    private static final int MAX_RESULTS = 3;
+
+    CardRepository cardRepository;
+    CardAutocompleteIndex index;
+    Learner learner;
+
+    @BeforeEach
+    void setUp() {
+        cardRepository = mock(CardRepository.class);
+        index = new CardAutocompleteIndex(cardRepository, 10, 5, MAX_RESULTS);
+        learner = Learner.builder().id(1L).build();
+    }
+
+    @DisplayName("Should complete a prefix in alphabetical order, ignoring case and diacritics")
+    @Test
+    void givenEntries_whenComplete_thenReturnsMatchingEntriesInOrder() {
+        when(cardRepository.findEntriesByOwner(learner))
+                .thenReturn(List.of(
+                        entry(1L, "Household"), entry(2L, "house"), entry(3L, "garden"), entry(4L, "Café")));
+
+        assertThat(index.complete(learner, "HOU", 10))
+                .extracting(CardCompletionDto::entry)
+                .containsExactly("house", "Household");
+        assertThat(index.complete(learner, "cafe", 10)).extracting(CardCompletionDto::id).containsExactly(4L);
+        assertThat(index.complete(learner, "x", 10)).isEmpty();
+    }
+
+    @DisplayName("Should load the learner's entries once and cap the number of completions")
+    @Test
+    void givenManyMatches_whenCompleteRepeatedly_thenLoadsOnceAndCapsResults() {
+        when(cardRepository.findEntriesByOwner(learner))
+                .thenReturn(List.of(entry(1L, "a1"), entry(2L, "a2"), entry(3L, "a3"), entry(4L, "a4")));
+
+        assertThat(index.complete(learner, "a", 2)).hasSize(2);
+        assertThat(index.complete(learner, "a", 100)).hasSize(MAX_RESULTS);
+        verify(cardRepository, times(1)).findEntriesByOwner(learner);
+    }
+
+    @DisplayName("Should apply created, renamed and deleted cards to a loaded index")
+    @Test
+    void givenLoadedIndex_whenCardsChange_thenCompletionsReflectChanges() {
+        when(cardRepository.findEntriesByOwner(learner)).thenReturn(List.of(entry(1L, "house"), entry(2L, "horse")));
+        assertThat(index.complete(learner, "ho", 10)).hasSize(2);
+
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card(1L, "garden")));
+        index.onCardChanged(new CardChangedEvent(1L));
+        when(cardRepository.findById(2L)).thenReturn(Optional.empty());
+        index.onCardChanged(new CardChangedEvent(2L));
+        when(cardRepository.findById(3L)).thenReturn(Optional.of(card(3L, "home")));
+        index.onCardChanged(new CardChangedEvent(3L));
+
+        assertThat(index.complete(learner, "ho", 10)).extracting(CardCompletionDto::entry).containsExactly("home");
+        assertThat(index.complete(learner, "gar", 10)).extracting(CardCompletionDto::id).containsExactly(1L);
+    }
+
+    @DisplayName("Should reload entries that missed a change committed while they were loading")
+    @Test
+    void givenChangeCommittedDuringLoad_whenCompleteAgain_thenChangeIsFound() {
+        when(cardRepository.findById(3L)).thenReturn(Optional.of(card(3L, "home")));
+        when(cardRepository.findEntriesByOwner(learner))
+                .thenAnswer(invocation -> {
+                    index.onCardChanged(new CardChangedEvent(3L));
+                    return List.of(entry(1L, "house"));
+                })
+                .thenReturn(List.of(entry(1L, "house"), entry(3L, "home")));
+
+        assertThat(index.complete(learner, "ho", 10))
+                .extracting(CardCompletionDto::entry)
+                .containsExactly("home", "house");
+        verify(cardRepository, times(2)).findEntriesByOwner(learner);
+    }
+
+    private Card card(long id, String entry) {
+        return Card.builder().id(id).entry(entry).owner(learner).language(Language.EN).build();
+    }
+
+    private static CardEntryView entry(long id, String entry) {
+        return new CardEntryView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEntry() {
+                return entry;
+            }
+
+            @Override
+            public Language getLanguage() {
+                return Language.EN;
+            }
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package com.almonium.card.core.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.almonium.card.core.dto.WordFrequencyDto;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.projection.CardEntryView;
+import com.almonium.card.core.service.impl.CardFrequencyServiceImpl;
+import com.almonium.engine.frequency.FrequencyIndex;
+import com.almonium.engine.frequency.FrequencyRefresher;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.user.core.model.entity.Learner;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Set;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class CardFrequencyServiceImplTest {
+    @Mock
+    CardRepository cardRepository;
+
+    @Mock
+    FrequencyIndex frequencyIndex;
+
+    @Mock
+    FrequencyRefresher frequencyRefresher;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Captor
+    ArgumentCaptor<Collection<Object[]>> updatesCaptor;
+
+    CardFrequencyServiceImpl cardFrequencyService;
+
+    @BeforeEach
+    void setUp() {
+        cardFrequencyService =
+                new CardFrequencyServiceImpl(cardRepository, frequencyIndex, frequencyRefresher, jdbcTemplate, 1);
+    }
+
+    @DisplayName("Should batch update scores of indexed cards and leave unknown entries untouched")
+    @Test
+    void givenLearnerCards_whenUpdateFrequencies_thenBatchUpdateIndexedScoresOnly() {
+        Learner learner = new Learner();
+        when(cardRepository.findEntriesByOwner(learner))
+                .thenReturn(List.of(view(1L, "the", Language.EN), view(2L, "zyzzyva", Language.EN)));
+        when(frequencyIndex.contains("the", Language.EN)).thenReturn(true);
+        when(frequencyIndex.score("the", Language.EN)).thenReturn(OptionalDouble.of(10.03));
+        when(frequencyIndex.score("zyzzyva", Language.EN)).thenReturn(OptionalDouble.empty());
+
+        int updated = cardFrequencyService.updateFrequencies(learner);
+
+        assertThat(updated).isEqualTo(1);
+        verify(frequencyRefresher).refresh(Language.EN, Set.of("zyzzyva"));
+        verify(jdbcTemplate).batchUpdate(any(String.class), updatesCaptor.capture(), eq(500), any());
+        assertThat(updatesCaptor.getValue()).containsExactly(new Object[] {1003, 1L});
+    }
+
+    @DisplayName("Should look up a bounded number of unindexed entries in the Ngram corpus before scoring")
+    @Test
+    void givenUnindexedEntries_whenUpdateFrequencies_thenFetchUpToTheLimitAndScoreThem() {
+        Learner learner = new Learner();
+        when(cardRepository.findEntriesByOwner(learner))
+                .thenReturn(List.of(view(1L, "bloom", Language.EN), view(2L, "zyzzyva", Language.EN)));
+        // the lookup adds the first entry to the index, the second is beyond the limit
+        when(frequencyIndex.score("bloom", Language.EN)).thenReturn(OptionalDouble.of(4.5));
+        when(frequencyIndex.score("zyzzyva", Language.EN)).thenReturn(OptionalDouble.empty());
+
+        int updated = cardFrequencyService.updateFrequencies(learner);
+
+        assertThat(updated).isEqualTo(1);
+        InOrder inOrder = inOrder(frequencyRefresher, frequencyIndex);
+        inOrder.verify(frequencyRefresher).refresh(Language.EN, Set.of("bloom"));
+        inOrder.verify(frequencyIndex).score("bloom", Language.EN);
+        verify(jdbcTemplate).batchUpdate(any(String.class), updatesCaptor.capture(), eq(500), any());
+        assertThat(updatesCaptor.getValue()).containsExactly(new Object[] {450, 1L});
+    }
+
+    @DisplayName("Should score an uploaded word list and keep unknown words")
+    @Test
+    void givenWords_whenGetFrequencies_thenReturnScoresInOrder() {
+        when(frequencyIndex.score("the", Language.EN)).thenReturn(OptionalDouble.of(10.0));
+        when(frequencyIndex.score("zyzzyva", Language.EN)).thenReturn(OptionalDouble.empty());
+
+        List<WordFrequencyDto> frequencies =
+                cardFrequencyService.getFrequencies(Language.EN, List.of("the", "zyzzyva"));
+
+        assertThat(frequencies)
+                .containsExactly(new WordFrequencyDto("the", 10.0), new WordFrequencyDto("zyzzyva", null));
+        verifyNoInteractions(frequencyRefresher);
+    }
+
+    private static CardEntryView view(Long id, String entry, Language language) {
+        return new CardEntryView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEntry() {
+                return entry;
+            }
+
+            @Override
+            public Language getLanguage() {
+                return language;
+            }
+        };
+    }
+}
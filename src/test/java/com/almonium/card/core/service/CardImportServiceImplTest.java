@@ -0,0 +1,148 @@
+package com.almonium.card.core.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.almonium.card.core.dto.CardImportResultDto;
+import com.almonium.card.core.event.CardsImportedEvent;
+import com.almonium.card.core.exception.InvalidCardImportException;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.model.entity.Tag;
+import com.almonium.card.core.model.entity.Translation;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.TagRepository;
+import com.almonium.card.core.service.impl.CardImportServiceImpl;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.user.core.model.entity.Learner;
+import com.almonium.user.core.model.entity.User;
+import com.almonium.util.TestDataGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@FieldDefaults(level = PRIVATE)
+class CardImportServiceImplTest {
+    private static final int BATCH_SIZE = 100;
+    private static final int CARDS = 250;
+    // sequence calls plus one batch per table and chunk; a row-by-row import would need over a thousand
+    private static final long MAX_STATEMENTS = 100;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    CardRepository cardRepository;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    ApplicationEventPublisher eventPublisher;
+    CardImportService cardImportService;
+    Learner learner;
+
+    @BeforeEach
+    void setUp() {
+        User user = TestDataGenerator.buildTestUser();
+        entityManager.persist(user);
+        learner = user.getLearner();
+        entityManager.persist(new Tag("noun"));
+        entityManager.flush();
+
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        cardImportService = new CardImportServiceImpl(
+                entityManager, tagRepository, eventPublisher, new ObjectMapper(), BATCH_SIZE);
+    }
+
+    @DisplayName("Should import a JSON deck in batches, reusing existing tags and skipping invalid cards")
+    @Test
+    void givenJsonDeck_whenImportJson_thenCardsAreSavedInBatches() {
+        String cards = IntStream.range(0, CARDS)
+                .mapToObj(i -> """
+                        {"entry": "word%d", "language": "EN", "translations": [{"translation": "слово%d"}],
+                         "examples": [{"example": "a word%d"}], "tags": [{"text": "noun"}, {"text": "Deck %d"}]}"""
+                        .formatted(i, i, i, i % 2))
+                .collect(Collectors.joining(",", "[", ", {\"entry\": \" \", \"language\": \"EN\"}]"));
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        CardImportResultDto result = cardImportService.importJson(learner, stream(cards));
+        long statements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        assertThat(result).isEqualTo(new CardImportResultDto(CARDS, 1));
+        assertThat(statements).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(cardRepository.findAllByOwner(learner)).hasSize(CARDS).allMatch(Card::isActiveLearning);
+        assertThat(tagRepository.findAll())
+                .extracting(Tag::getText)
+                .containsExactlyInAnyOrder("noun", "deck_0", "deck_1");
+        verify(eventPublisher).publishEvent(new CardsImportedEvent(learner.getId()));
+    }
+
+    @DisplayName("Should import an Anki plain text export with headers and quoted fields")
+    @Test
+    void givenAnkiExport_whenImportFile_thenCardsAreSaved() {
+        String deck = """
+                #separator:tab
+                #html:false
+                house\tдім; будинок\tnoun basic
+                "big, ""red"" house"\tвеликий будинок
+                \tno entry
+                """;
+
+        CardImportResultDto result = cardImportService.importFile(learner, stream(deck), "deck.txt", Language.UK);
+
+        assertThat(result).isEqualTo(new CardImportResultDto(2, 1));
+        List<Card> cards = cardRepository.findAllByOwner(learner);
+        cardRepository.fetchDetails(cards);
+        assertThat(cards).extracting(Card::getEntry).containsExactlyInAnyOrder("house", "big, \"red\" house");
+        assertThat(cards).allMatch(Card::isActiveLearning);
+        Card house = cards.stream().filter(card -> card.getEntry().equals("house")).findFirst().orElseThrow();
+        assertThat(house.getLanguage()).isEqualTo(Language.UK);
+        assertThat(house.getTranslations())
+                .extracting(Translation::getTranslation)
+                .containsExactlyInAnyOrder("дім", "будинок");
+        assertThat(house.getCardTags())
+                .extracting(cardTag -> cardTag.getTag().getText())
+                .containsExactlyInAnyOrder("noun", "basic");
+    }
+
+    @DisplayName("Should reject a body that is not a JSON array of cards")
+    @Test
+    void givenMalformedJson_whenImportJson_thenThrowsInvalidCardImportException() {
+        assertThatThrownBy(() -> cardImportService.importJson(learner, stream("[{\"entry\": ")))
+                .isInstanceOf(InvalidCardImportException.class);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        return statistics;
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(UTF_8));
+    }
+}
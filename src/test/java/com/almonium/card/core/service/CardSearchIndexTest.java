@@ -0,0 +1,139 @@
+package com.almonium.card.core.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.almonium.card.core.event.CardChangedEvent;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.model.entity.Example;
+import com.almonium.card.core.model.entity.Translation;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.service.impl.CardSearchIndex;
+import com.almonium.user.core.model.entity.Learner;
+import java.util.List;
+import java.util.Optional;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@FieldDefaults(level = PRIVATE)
+class CardSearchIndexTest {
+    private static final int MAX_RESULTS = 10;
+    private static final double MIN_SIMILARITY = 0.3;
+
+    CardRepository cardRepository;
+    CardSearchIndex index;
+    Learner learner;
+
+    @BeforeEach
+    void setUp() {
+        cardRepository = mock(CardRepository.class);
+        index = new CardSearchIndex(cardRepository, 10, 5, MAX_RESULTS, MIN_SIMILARITY);
+        learner = Learner.builder().id(1L).build();
+    }
+
+    @DisplayName("Should find a card despite a typo in the query")
+    @Test
+    void givenQueryWithTypo_whenSearch_thenFindsCard() {
+        when(cardRepository.findAllByOwner(learner))
+                .thenReturn(List.of(card(1L, "house", "дім"), card(2L, "garden", "сад")));
+
+        assertThat(index.search(learner, "hause")).containsExactly(1L);
+    }
+
+    @DisplayName("Should rank a match in the entry above a match in an example or note")
+    @Test
+    void givenWordInEntryAndInExample_whenSearch_thenEntryMatchRanksFirst() {
+        Card inExample = card(1L, "dwelling", "житло");
+        inExample.setExamples(List.of(Example.builder().example("A house is a dwelling").build()));
+        Card inNotes = card(2L, "home", "дім");
+        inNotes.setNotes("not quite a house");
+        Card inEntry = card(3L, "house", "будинок");
+        when(cardRepository.findAllByOwner(learner)).thenReturn(List.of(inExample, inNotes, inEntry));
+
+        assertThat(index.search(learner, "house")).first().isEqualTo(3L);
+        assertThat(index.search(learner, "house")).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @DisplayName("Should match translations and ignore diacritics and case")
+    @Test
+    void givenQueryMatchingTranslation_whenSearch_thenFindsCard() {
+        when(cardRepository.findAllByOwner(learner)).thenReturn(List.of(card(1L, "coffee shop", "Café")));
+
+        assertThat(index.search(learner, "cafe")).containsExactly(1L);
+    }
+
+    @DisplayName("Should apply committed card changes to an already loaded index")
+    @Test
+    void givenLoadedIndex_whenCardsChange_thenSearchReflectsChanges() {
+        Card house = card(1L, "house", "дім");
+        when(cardRepository.findAllByOwner(learner)).thenReturn(List.of(house));
+        assertThat(index.search(learner, "garden")).isEmpty();
+
+        Card garden = card(2L, "garden", "сад");
+        when(cardRepository.findById(2L)).thenReturn(Optional.of(garden));
+        index.onCardChanged(new CardChangedEvent(2L));
+
+        when(cardRepository.findById(1L)).thenReturn(Optional.empty());
+        index.onCardChanged(new CardChangedEvent(1L));
+
+        assertThat(index.search(learner, "garden")).containsExactly(2L);
+        assertThat(index.search(learner, "house")).isEmpty();
+    }
+
+    @DisplayName("Should reload an index that missed a change committed while it was loading")
+    @Test
+    void givenChangeCommittedDuringLoad_whenSearchAgain_thenChangeIsFound() {
+        Card garden = card(2L, "garden", "sad");
+        when(cardRepository.findById(2L)).thenReturn(Optional.of(garden));
+        when(cardRepository.findAllByOwner(learner))
+                .thenAnswer(invocation -> {
+                    index.onCardChanged(new CardChangedEvent(2L));
+                    return List.of(card(1L, "house", "dim"));
+                })
+                .thenReturn(List.of(card(1L, "house", "dim"), garden));
+
+        assertThat(index.search(learner, "garden")).containsExactly(2L);
+        assertThat(index.search(learner, "house")).containsExactly(1L);
+    }
+
+    @DisplayName("Should reload an index that missed a deletion committed while it was loading")
+    @Test
+    void givenDeletionCommittedDuringLoad_whenSearch_thenDeletedCardIsGone() {
+        when(cardRepository.findById(1L)).thenReturn(Optional.empty());
+        when(cardRepository.findAllByOwner(learner))
+                .thenAnswer(invocation -> {
+                    index.onCardChanged(new CardChangedEvent(1L));
+                    return List.of(card(1L, "house", "dim"));
+                })
+                .thenReturn(List.of());
+
+        assertThat(index.search(learner, "house")).isEmpty();
+    }
+
+    @DisplayName("Should find a longer word from a query of two or three letters")
+    @Test
+    void givenShortQuery_whenSearch_thenFindsWordsStartingWithIt() {
+        when(cardRepository.findAllByOwner(learner))
+                .thenReturn(List.of(card(1L, "house", "dim"), card(2L, "garden", "sad")));
+
+        assertThat(index.search(learner, "ho")).containsExactly(1L);
+        assertThat(index.search(learner, "gar")).containsExactly(2L);
+        assertThat(index.search(learner, "ga")).containsExactly(2L);
+    }
+
+    @DisplayName("Should return nothing for a query without words")
+    @Test
+    void givenBlankQuery_whenSearch_thenReturnsEmpty() {
+        assertThat(index.search(learner, " ?! ")).isEmpty();
+    }
+
+    private Card card(long id, String entry, String translation) {
+        Card card = Card.builder().id(id).entry(entry).owner(learner).build();
+        card.setTranslations(List.of(Translation.builder().translation(translation).build()));
+        return card;
+    }
+}
@@ -11,14 +11,18 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.almonium.card.core.dto.CardCreationDto;
 import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.CardPageDto;
 import com.almonium.card.core.dto.CardUpdateDto;
 import com.almonium.card.core.dto.ExampleDto;
 import com.almonium.card.core.dto.TagDto;
 import com.almonium.card.core.dto.TranslationDto;
+import com.almonium.card.core.event.CardChangedEvent;
+import com.almonium.card.core.exception.InvalidCursorException;
 import com.almonium.card.core.mapper.CardMapper;
 import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.core.model.entity.CardTag;
@@ -26,12 +30,18 @@ import com.almonium.card.core.model.entity.Example;
 import com.almonium.card.core.model.entity.Tag;
 import com.almonium.card.core.model.entity.Translation;
 import com.almonium.card.core.model.entity.pk.CardTagPK;
+import com.almonium.card.core.model.enums.CardSort;
 import com.almonium.card.core.repository.CardRepository;
 import com.almonium.card.core.repository.CardTagRepository;
 import com.almonium.card.core.repository.ExampleRepository;
 import com.almonium.card.core.repository.TagRepository;
 import com.almonium.card.core.repository.TranslationRepository;
+import com.almonium.card.core.repository.projection.CardListingView;
+import com.almonium.card.core.repository.projection.CardTagView;
+import com.almonium.card.core.repository.projection.CardTranslationView;
 import com.almonium.card.core.service.impl.CardServiceImpl;
+import com.almonium.card.core.service.impl.CardCursor;
+import com.almonium.card.core.service.impl.CardSearchIndex;
 import com.almonium.engine.translator.model.enums.Language;
 import com.almonium.user.core.model.entity.Learner;
 import com.almonium.user.core.repository.LearnerRepository;
@@ -57,6 +67,8 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
 @FieldDefaults(level = PRIVATE)
@@ -82,35 +94,39 @@ class CardServiceImplTest {
     @Mock
     CardMapper cardMapper;
 
+    @Mock
+    CardSearchIndex cardSearchIndex;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     CardServiceImpl cardServiceImpl;
 
     @Captor
     private ArgumentCaptor<List<CardTag>> captor;
 
-    @DisplayName("Should return a list of CardDto that match the search entry")
+    @DisplayName("Should return the cards found by the search index in the order of their rank")
     @Test
-    void givenSearchEntryAndUser_whenSearchByEntry_thenReturnMatchingCards() {
+    void givenSearchEntryAndUser_whenSearchByEntry_thenReturnMatchingCardsInRankOrder() {
         // Arrange
         Learner user = new Learner();
         Card card1 = Card.builder().id(1L).build();
         card1.setEntry("test1");
         Card card2 = Card.builder().id(2L).build();
         card2.setEntry("test2");
-        List<Card> cards = Arrays.asList(card1, card2);
         String entry = "test";
 
-        when(cardRepository.findAllByOwnerAndEntryLikeIgnoreCase(user, "%test%"))
-                .thenReturn(cards);
-        when(cardMapper.cardEntityToDto(card1)).thenReturn(new CardDto());
-        when(cardMapper.cardEntityToDto(card2)).thenReturn(new CardDto());
+        when(cardSearchIndex.search(user, entry)).thenReturn(List.of(2L, 1L));
+        when(cardRepository.findAllById(List.of(2L, 1L))).thenReturn(Arrays.asList(card1, card2));
+        when(cardMapper.cardEntityToDto(card1)).thenReturn(CardDto.builder().id(1L).build());
+        when(cardMapper.cardEntityToDto(card2)).thenReturn(CardDto.builder().id(2L).build());
 
         // Act
         List<CardDto> result = cardServiceImpl.searchByEntry(entry, user);
 
         // Assert
-        assertThat(result).isNotNull();
-        assertThat(result.size()).isEqualTo(2);
+        assertThat(result).extracting(CardDto::getId).containsExactly(2L, 1L);
     }
 
     @DisplayName("Should return CardDto when getCardById is called")
@@ -196,6 +212,7 @@ class CardServiceImplTest {
 
         // Assert
         verify(cardRepository, times(1)).deleteById(id);
+        verify(eventPublisher).publishEvent(new CardChangedEvent(id));
     }
 
     @DisplayName("Should delete specified examples")
@@ -692,4 +709,63 @@ class CardServiceImplTest {
                 .extracting(Tag::getText)
                 .containsExactlyInAnyOrder(newTag);
     }
+
+    @DisplayName("Should assemble a page from batched child queries and return a cursor to the next page")
+    @Test
+    void givenMoreCardsThanPageSize_whenGetUsersCardsPage_thenReturnsPageWithCursor() {
+        // Arrange
+        Learner learner = new Learner();
+        LocalDateTime now = LocalDateTime.now();
+        List<CardListingView> rows = List.of(listingView(3L, 3, now), listingView(2L, 3, now), listingView(1L, 1, now));
+        CardCursor first = CardCursor.first(CardSort.PRIORITY);
+        when(cardRepository.findPageByPriority(
+                        learner, first.sortValue(), first.updatedAt(), first.id(), PageRequest.ofSize(3)))
+                .thenReturn(rows);
+        when(translationRepository.findViewsByCardIds(List.of(3L, 2L)))
+                .thenReturn(List.of(new CardTranslationView(3L, 10L, "translation")));
+        when(exampleRepository.findViewsByCardIds(List.of(3L, 2L))).thenReturn(List.of());
+        when(cardTagRepository.findViewsByCardIds(List.of(3L, 2L))).thenReturn(List.of(new CardTagView(2L, "tag")));
+
+        // Act
+        CardPageDto result = cardServiceImpl.getUsersCardsPage(learner, CardSort.PRIORITY, null, 2);
+
+        // Assert
+        assertThat(result.cards()).extracting(CardDto::getId).containsExactly(3L, 2L);
+        assertThat(result.cards().get(0).getTranslations())
+                .extracting(TranslationDto::getTranslation)
+                .containsExactly("translation");
+        assertThat(result.cards().get(1).getTags()).extracting(TagDto::getText).containsExactly("tag");
+        assertThat(result.cards().get(1).getExamples()).isEmpty();
+        assertThat(CardCursor.decode(result.nextCursor(), CardSort.PRIORITY))
+                .isEqualTo(new CardCursor(CardSort.PRIORITY, 3, now, 2L));
+    }
+
+    @DisplayName("Should reject a cursor issued for a different ordering")
+    @Test
+    void givenCursorOfAnotherSort_whenGetUsersCardsPage_thenThrowsInvalidCursorException() {
+        String cursor = new CardCursor(CardSort.FREQUENCY, 5, LocalDateTime.now(), 1L).encode();
+
+        assertThatThrownBy(() -> cardServiceImpl.getUsersCardsPage(new Learner(), CardSort.PRIORITY, cursor, 10))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(cardRepository);
+    }
+
+    private static CardListingView listingView(long id, int priority, LocalDateTime updatedAt) {
+        return new CardListingView(
+                id,
+                UUID.randomUUID(),
+                1L,
+                "entry" + id,
+                Language.EN,
+                null,
+                updatedAt,
+                updatedAt,
+                0,
+                priority,
+                0,
+                true,
+                false,
+                false,
+                false);
+    }
 }
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.event.CardChangedEvent;
 import com.almonium.card.core.mapper.CardMapper;
 import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.core.model.entity.Example;
@@ -39,6 +40,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @FieldDefaults(level = PRIVATE)
@@ -61,6 +63,9 @@ class CardSuggestionServiceImplTest {
     @Mock
     CardMapper cardMapper;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     CardSuggestionServiceImpl cardSuggestionService;
 
@@ -189,6 +194,7 @@ class CardSuggestionServiceImplTest {
         verify(translationRepository).saveAll(eq(translations));
         verify(exampleRepository).saveAll(eq(examples));
         verify(learnerRepository).save(eq(recipient));
+        verify(eventPublisher).publishEvent(any(CardChangedEvent.class));
         verify(cardSuggestionRepository).delete(cardSuggestion);
     }
 
@@ -1,12 +1,17 @@
 package com.almonium.engine.analyzer.controller;
 
 import static lombok.AccessLevel.PRIVATE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.almonium.auth.common.model.entity.Principal;
@@ -14,25 +19,39 @@ import com.almonium.base.BaseControllerTest;
 import com.almonium.card.core.dto.CardDto;
 import com.almonium.card.core.service.CardService;
 import com.almonium.engine.analyzer.dto.AnalysisDto;
+import com.almonium.engine.analyzer.dto.AnnotatedToken;
+import com.almonium.engine.analyzer.dto.BatchAnalysisRequest;
+import com.almonium.engine.analyzer.dto.TextAnalysisDto;
+import com.almonium.engine.analyzer.model.enums.POS;
 import com.almonium.engine.analyzer.service.LanguageProcessor;
+import com.almonium.engine.audio.StoredAudio;
+import com.almonium.engine.audio.service.SpeechStreamService;
 import com.almonium.engine.client.words.dto.WordsReportDto;
 import com.almonium.engine.translator.dto.MLTranslationCard;
 import com.almonium.engine.translator.dto.TranslationCardDto;
+import com.almonium.engine.translator.dto.TranslationSegmentDto;
 import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.BulkTranslationService;
 import com.almonium.user.core.model.entity.Learner;
 import com.almonium.util.TestDataGenerator;
 import com.google.protobuf.ByteString;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(LangController.class)
 @FieldDefaults(level = PRIVATE)
@@ -42,9 +61,12 @@ class LangControllerTest extends BaseControllerTest {
     private static final String TRANSLATE_URL = BASE_URL + "translate/{langFrom}/{langTo}/{text}";
     private static final String REPORT_URL = BASE_URL + "words/{text}/{lang}/report";
     private static final String BULK_PRONOUNCE_URL = BASE_URL + "words/{text}/audio/{lang}";
+    private static final String PRONOUNCE_STREAM_URL = BASE_URL + "audio/{lang}/stream";
     private static final String RANDOM_URL = BASE_URL + "words/random";
     private static final String BULK_TRANSLATE_URL = BASE_URL + "translations/{langTo}/bulk";
+    private static final String BULK_TRANSLATE_STREAM_URL = BULK_TRANSLATE_URL + "/stream";
     private static final String SEARCH_URL = BASE_URL + "cards/search/{text}";
+    private static final String BULK_ANALYSIS_URL = BASE_URL + "analysis/bulk";
 
     @MockBean
     CardService cardService;
@@ -52,8 +74,17 @@ class LangControllerTest extends BaseControllerTest {
     @MockBean
     LanguageProcessor languageProcessor;
 
+    @MockBean
+    BulkTranslationService bulkTranslationService;
+
+    @MockBean
+    SpeechStreamService speechStreamService;
+
     Learner learner;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setUp() {
         Principal principal = TestDataGenerator.buildTestPrincipal();
@@ -123,6 +154,35 @@ class LangControllerTest extends BaseControllerTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(mlTranslationCard)));
     }
 
+    @DisplayName("Should stream translated segments as newline-delimited JSON")
+    @Test
+    @SneakyThrows
+    void givenText_whenBulkTranslateStream_thenStreamSegmentsInOrder() {
+        String text = "Hello. World.";
+        List<TranslationSegmentDto> segments =
+                List.of(new TranslationSegmentDto(0, "Hola. "), new TranslationSegmentDto(1, "Mundo."));
+        doAnswer(invocation -> {
+                    Consumer<TranslationSegmentDto> sink = invocation.getArgument(2);
+                    segments.forEach(sink);
+                    return null;
+                })
+                .when(bulkTranslationService)
+                .translate(any(), eq(Language.ES), any());
+
+        MvcResult result = mockMvc.perform(post(BULK_TRANSLATE_STREAM_URL, Language.ES.name())
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content(text))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content()
+                        .string(objectMapper.writeValueAsString(segments.get(0)) + "\n"
+                                + objectMapper.writeValueAsString(segments.get(1)) + "\n"));
+    }
+
     @DisplayName("Should bulk pronounce text in a specified language")
     @Test
     @SneakyThrows
@@ -130,14 +190,72 @@ class LangControllerTest extends BaseControllerTest {
         String lang = Language.EN.name();
         String text = "Hello";
         ByteString audioBytes = TestDataGenerator.generateRandomAudioBytes();
-        when(languageProcessor.textToSpeech(lang, text)).thenReturn(audioBytes);
+        Path file = Files.write(tempDir.resolve("audio.mp3"), audioBytes.toByteArray());
+        when(languageProcessor.pronounce(lang, text)).thenReturn(new StoredAudio("abc123", file, audioBytes.size()));
 
         mockMvc.perform(get(BULK_PRONOUNCE_URL, text, lang).contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Disposition", "attachment; filename=file.mp3"))
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
                 .andExpect(content().bytes(audioBytes.toByteArray()));
     }
 
+    @DisplayName("Should answer a conditional pronunciation request for cached audio with 304")
+    @Test
+    @SneakyThrows
+    void givenMatchingETag_whenBulkPronounce_thenReturnNotModified() {
+        String lang = Language.EN.name();
+        String text = "Hello";
+        Path file = Files.write(tempDir.resolve("audio.mp3"), new byte[] {1, 2, 3});
+        when(languageProcessor.pronounce(lang, text)).thenReturn(new StoredAudio("abc123", file, 3));
+
+        mockMvc.perform(get(BULK_PRONOUNCE_URL, text, lang).header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @DisplayName("Should serve a byte range of the pronunciation")
+    @Test
+    @SneakyThrows
+    void givenRangeHeader_whenBulkPronounce_thenReturnPartialContent() {
+        String lang = Language.EN.name();
+        String text = "Hello";
+        Path file = Files.write(tempDir.resolve("audio.mp3"), new byte[] {1, 2, 3, 4, 5, 6});
+        when(languageProcessor.pronounce(lang, text)).thenReturn(new StoredAudio("abc123", file, 6));
+
+        mockMvc.perform(get(BULK_PRONOUNCE_URL, text, lang).header("Range", "bytes=2-4"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().string("Content-Range", "bytes 2-4/6"))
+                .andExpect(content().bytes(new byte[] {3, 4, 5}));
+    }
+
+    @DisplayName("Should stream the pronunciation of a long text")
+    @Test
+    @SneakyThrows
+    void givenText_whenPronounceStream_thenStreamAudio() {
+        byte[] audio = TestDataGenerator.generateRandomAudioBytes().toByteArray();
+        doAnswer(invocation -> {
+                    OutputStream output = invocation.getArgument(2);
+                    output.write(audio);
+                    return null;
+                })
+                .when(speechStreamService)
+                .stream(any(), eq("en-US"), any());
+
+        MvcResult result = mockMvc.perform(post(PRONOUNCE_STREAM_URL, "en-US")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("Hello. World."))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("audio/mpeg"))
+                .andExpect(content().bytes(audio));
+    }
+
     @DisplayName("Should get a random WordsReportDto")
     @Test
     @SneakyThrows
@@ -151,4 +269,46 @@ class LangControllerTest extends BaseControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(wordsReportDto)));
     }
+
+    @DisplayName("Should analyze a batch of entries")
+    @Test
+    @SneakyThrows
+    void givenEntries_whenAnalyzeBatch_thenReturnTokensPerEntry() {
+        BatchAnalysisRequest request = new BatchAnalysisRequest(List.of("cats", "ran"), null);
+        AnnotatedToken cats = new AnnotatedToken("cats", "cat", "NNS", POS.NOUN_PLURAL, 0, 4);
+        AnnotatedToken ran = new AnnotatedToken("ran", "run", "VBD", POS.VERB_PAST_TENSE, 0, 3);
+        List<TextAnalysisDto> analysis =
+                List.of(new TextAnalysisDto("cats", List.of(cats)), new TextAnalysisDto("ran", List.of(ran)));
+        when(languageProcessor.analyzeBatch(request)).thenReturn(analysis);
+
+        mockMvc.perform(post(BULK_ANALYSIS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(analysis)));
+    }
+
+    @DisplayName("Should reject a batch without entries and text")
+    @Test
+    @SneakyThrows
+    void givenEmptyBatch_whenAnalyzeBatch_thenBadRequest() {
+        BatchAnalysisRequest request = new BatchAnalysisRequest(List.of(), null);
+
+        mockMvc.perform(post(BULK_ANALYSIS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("Should reject a document longer than the batch limit")
+    @Test
+    @SneakyThrows
+    void givenOversizedText_whenAnalyzeBatch_thenBadRequest() {
+        BatchAnalysisRequest request = new BatchAnalysisRequest(null, "a".repeat(100_001));
+
+        mockMvc.perform(post(BULK_ANALYSIS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
 }
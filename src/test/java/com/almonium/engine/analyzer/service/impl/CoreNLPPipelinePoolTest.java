@@ -0,0 +1,112 @@
+package com.almonium.engine.analyzer.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.almonium.engine.analyzer.exception.NlpPipelineUnavailableException;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@FieldDefaults(level = PRIVATE)
+class CoreNLPPipelinePoolTest {
+    private static final long ACQUIRE_TIMEOUT_MILLIS = 1000;
+
+    CoreNLPPipelinePool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @DisplayName("Should load every pipeline in the background once the application is ready")
+    @Test
+    void givenPreloadEnabled_whenApplicationReady_thenPoolBecomesReady() throws InterruptedException {
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch allCreated = new CountDownLatch(2);
+        pool = new CoreNLPPipelinePool(2, ACQUIRE_TIMEOUT_MILLIS, true, 2, () -> {
+            created.incrementAndGet();
+            allCreated.countDown();
+            return mock(StanfordCoreNLP.class);
+        });
+
+        assertThat(pool.isReady()).isFalse();
+        pool.onApplicationReady();
+
+        allCreated.await();
+        assertThat(created).hasValue(2);
+        assertThat(pool.execute(pipeline -> "annotated")).isEqualTo("annotated");
+        assertThat(pool.isReady()).isTrue();
+    }
+
+    @DisplayName("Should not load models on startup when preloading is disabled, but load them on first use")
+    @Test
+    void givenPreloadDisabled_whenFirstExecute_thenLoadLazily() {
+        AtomicInteger created = new AtomicInteger();
+        pool = new CoreNLPPipelinePool(1, ACQUIRE_TIMEOUT_MILLIS, false, 1, () -> {
+            created.incrementAndGet();
+            return mock(StanfordCoreNLP.class);
+        });
+
+        pool.onApplicationReady();
+        assertThat(created).hasValue(0);
+
+        assertThat(pool.execute(pipeline -> "annotated")).isEqualTo("annotated");
+        assertThat(created).hasValue(1);
+        assertThat(pool.isReady()).isTrue();
+    }
+
+    @DisplayName("Should fail fast instead of waiting forever when loading throws an Error")
+    @Test
+    void givenLoaderThrowsError_whenExecute_thenReportModelsFailedToLoad() {
+        Supplier<StanfordCoreNLP> outOfMemory = () -> {
+            throw new OutOfMemoryError("Java heap space");
+        };
+        pool = new CoreNLPPipelinePool(1, ACQUIRE_TIMEOUT_MILLIS, false, 1, outOfMemory);
+
+        assertThatThrownBy(() -> pool.execute(pipeline -> "annotated"))
+                .isInstanceOf(NlpPipelineUnavailableException.class)
+                .hasMessage("NLP models failed to load");
+        assertThat(pool.isReady()).isFalse();
+    }
+
+    @DisplayName("Should report the pool as busy when every pipeline is borrowed")
+    @Test
+    void givenAllPipelinesBorrowed_whenExecute_thenRejectAfterTimeout() {
+        pool = new CoreNLPPipelinePool(1, 50, false, 1, () -> mock(StanfordCoreNLP.class));
+
+        String nested = pool.execute(outer -> {
+            assertThatThrownBy(() -> pool.execute(inner -> "second"))
+                    .isInstanceOf(NlpPipelineUnavailableException.class)
+                    .hasMessage("All NLP pipelines are busy");
+            return "first";
+        });
+
+        assertThat(nested).isEqualTo("first");
+    }
+
+    @DisplayName("Should keep a pipeline free for single reports while batches hold their whole quota")
+    @Test
+    void givenBatchQuotaInUse_whenExecute_thenSingleRequestStillServed() {
+        pool = new CoreNLPPipelinePool(2, 50, false, 1, () -> mock(StanfordCoreNLP.class));
+
+        String single = pool.executeBatch(batch -> {
+            assertThatThrownBy(() -> pool.executeBatch(other -> "second batch"))
+                    .isInstanceOf(NlpPipelineUnavailableException.class)
+                    .hasMessage("Too many batch analyses in progress");
+            return pool.execute(pipeline -> "report");
+        });
+
+        assertThat(single).isEqualTo("report");
+        assertThat(pool.batchParallelism()).isEqualTo(1);
+    }
+}
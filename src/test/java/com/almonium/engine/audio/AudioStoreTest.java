@@ -0,0 +1,184 @@
+package com.almonium.engine.audio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AudioStoreTest {
+    private static final int KB = 1024;
+    private static final String OWNER = "owner";
+    private static final String OTHER_OWNER = "other owner";
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("Should synthesize a pronunciation once and serve it from disk afterwards")
+    @Test
+    @SneakyThrows
+    void givenStoredAudio_whenGetAgain_thenSynthesizerIsNotCalled() {
+        AudioStore store = new AudioStore(directory, 1, 0, 0);
+        AtomicInteger synthesized = new AtomicInteger();
+
+        StoredAudio first = store.get("en-US", "hello", () -> {
+            synthesized.incrementAndGet();
+            return bytes(1, 2, 3);
+        });
+        StoredAudio second = store.get("en-US", "hello", () -> {
+            synthesized.incrementAndGet();
+            return bytes(4, 5, 6);
+        });
+
+        assertThat(synthesized).hasValue(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.readAllBytes(second.path())).containsExactly(1, 2, 3);
+        assertThat(second.size()).isEqualTo(3);
+    }
+
+    @DisplayName("Should address audio by language and text")
+    @Test
+    void givenDifferentInputs_whenKey_thenKeysDiffer() {
+        AudioStore store = new AudioStore(directory, 1, 0, 0);
+
+        assertThat(store.key("en-US", "hello")).isEqualTo(store.key("en-US", "hello"));
+        assertThat(store.key("en-US", "hello"))
+                .isNotEqualTo(store.key("en-GB", "hello"))
+                .isNotEqualTo(store.key("en-US", "hello!"));
+    }
+
+    @DisplayName("Should evict the least recently served audio once the size bound is exceeded")
+    @Test
+    void givenFullStore_whenNewAudioIsStored_thenLeastRecentlyUsedIsEvicted() {
+        AudioStore store = new AudioStore(directory, 1, 0, 0);
+        StoredAudio first = store.get("en-US", "first", () -> ByteString.copyFrom(new byte[400 * KB]));
+        StoredAudio second = store.get("en-US", "second", () -> ByteString.copyFrom(new byte[400 * KB]));
+        // serving the first one makes the second the least recently used
+        store.get("en-US", "first", () -> ByteString.EMPTY);
+
+        StoredAudio third = store.get("en-US", "third", () -> ByteString.copyFrom(new byte[400 * KB]));
+
+        assertThat(first.path()).exists();
+        assertThat(second.path()).doesNotExist();
+        assertThat(third.path()).exists();
+        assertThat(store.totalBytes()).isEqualTo(800 * KB);
+    }
+
+    @DisplayName("Should keep an evicted file on disk during the grace period but synthesize it again when asked")
+    @Test
+    @SneakyThrows
+    void givenEvictedAudio_whenWithinGracePeriod_thenFileIsKeptButNotServed() {
+        AudioStore store = new AudioStore(directory, 1, 0, 60);
+        StoredAudio first = store.get("en-US", "first", () -> ByteString.copyFrom(new byte[600 * KB]));
+        store.get("en-US", "second", () -> ByteString.copyFrom(new byte[600 * KB]));
+
+        assertThat(first.path()).exists();
+        assertThat(store.contains("en-US", "first")).isFalse();
+
+        StoredAudio again = store.get("en-US", "first", () -> bytes(7, 8, 9));
+
+        assertThat(again.path()).isEqualTo(first.path());
+        assertThat(Files.readAllBytes(again.path())).containsExactly(7, 8, 9);
+    }
+
+    @DisplayName("Should delete an evicted file in the sweep once its grace period has passed")
+    @Test
+    @SneakyThrows
+    void givenEvictedAudio_whenGracePeriodHasPassed_thenSweepDeletesIt() {
+        AudioStore store = new AudioStore(directory, 1, 0, 1);
+        StoredAudio first = store.get("en-US", "first", () -> ByteString.copyFrom(new byte[600 * KB]));
+        store.get("en-US", "second", () -> ByteString.copyFrom(new byte[600 * KB]));
+
+        store.sweepEvicted();
+        assertThat(first.path()).exists();
+
+        Thread.sleep(1100);
+        store.sweepEvicted();
+        assertThat(first.path()).doesNotExist();
+    }
+
+    @DisplayName("Should never evict pinned audio and pin only up to the pinned share")
+    @Test
+    void givenPinnedAudio_whenStoreOverflows_thenPinnedAudioIsKept() {
+        AudioStore store = new AudioStore(directory, 2, 1, 0);
+        StoredAudio pinned = store.get("en-US", "pinned", () -> ByteString.copyFrom(new byte[600 * KB]));
+        store.get("en-US", "too big to pin", () -> ByteString.copyFrom(new byte[600 * KB]));
+
+        assertThat(store.pin(OWNER, "en-US", "pinned")).isTrue();
+        assertThat(store.pin(OWNER, "en-US", "too big to pin")).isFalse();
+        assertThat(store.pin(OWNER, "en-US", "never stored")).isFalse();
+
+        store.get("en-US", "first", () -> ByteString.copyFrom(new byte[600 * KB]));
+        store.get("en-US", "second", () -> ByteString.copyFrom(new byte[600 * KB]));
+
+        assertThat(pinned.path()).exists();
+        assertThat(store.contains("en-US", "pinned")).isTrue();
+        assertThat(store.contains("en-US", "too big to pin")).isFalse();
+    }
+
+    @DisplayName("Should make audio evictable again once every owner has released its pin")
+    @Test
+    void givenAudioPinnedByTwoOwners_whenBothUnpin_thenAudioIsEvictable() {
+        AudioStore store = new AudioStore(directory, 1, 1, 0);
+        store.get("en-US", "shared", () -> ByteString.copyFrom(new byte[400 * KB]));
+        store.pin(OWNER, "en-US", "shared");
+        store.pin(OTHER_OWNER, "en-US", "shared");
+
+        store.unpin(OWNER);
+        store.get("en-US", "first", () -> ByteString.copyFrom(new byte[400 * KB]));
+        store.get("en-US", "second", () -> ByteString.copyFrom(new byte[400 * KB]));
+
+        // the older shared audio is still pinned, so the first one is evicted instead
+        assertThat(store.contains("en-US", "first")).isFalse();
+
+        store.unpin(OTHER_OWNER);
+        store.get("en-US", "third", () -> ByteString.copyFrom(new byte[400 * KB]));
+
+        assertThat(store.contains("en-US", "shared")).isFalse();
+        assertThat(store.contains("en-US", "second")).isTrue();
+        assertThat(store.pin(OWNER, "en-US", "third")).isTrue();
+    }
+
+    @DisplayName("Should pick up audio stored by a previous instance")
+    @Test
+    void givenAudioOnDisk_whenStoreIsCreated_thenAudioIsServedWithoutSynthesis() {
+        new AudioStore(directory, 1, 0, 0).get("en-US", "hello", () -> bytes(1, 2, 3));
+
+        AudioStore restarted = new AudioStore(directory, 1, 0, 0);
+        AtomicInteger synthesized = new AtomicInteger();
+        StoredAudio audio = restarted.get("en-US", "hello", () -> {
+            synthesized.incrementAndGet();
+            return ByteString.EMPTY;
+        });
+
+        assertThat(synthesized).hasValue(0);
+        assertThat(audio.size()).isEqualTo(3);
+        assertThat(restarted.totalBytes()).isEqualTo(3);
+    }
+
+    @DisplayName("Should delete temporary files of interrupted writes at startup")
+    @Test
+    @SneakyThrows
+    void givenLeftoverTempFile_whenStoreIsCreated_thenItIsDeleted() {
+        Path temp = Files.createDirectories(directory.resolve("ab")).resolve("ab12345.tmp");
+        Files.write(temp, new byte[] {1, 2, 3});
+
+        AudioStore store = new AudioStore(directory, 1, 0, 0);
+
+        assertThat(temp).doesNotExist();
+        assertThat(store.totalBytes()).isZero();
+    }
+
+    private static ByteString bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return ByteString.copyFrom(bytes);
+    }
+}
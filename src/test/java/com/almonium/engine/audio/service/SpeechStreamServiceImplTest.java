@@ -0,0 +1,100 @@
+package com.almonium.engine.audio.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.engine.audio.service.impl.SpeechStreamServiceImpl;
+import com.almonium.engine.client.ExternalCallExecutor;
+import com.almonium.engine.translator.service.TranslationService;
+import com.google.protobuf.ByteString;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class SpeechStreamServiceImplTest {
+    private static final String TEXT = "First sentence. Second sentence. Third sentence. Fourth sentence.";
+
+    @Mock
+    TranslationService googleService;
+
+    ExternalCallExecutor externalCalls;
+    SpeechStreamService speechStreamService;
+
+    @BeforeEach
+    void setUp() {
+        externalCalls = new ExternalCallExecutor(
+                4, 64, new MockEnvironment().withProperty("app.external.timeouts.default", "5000"));
+        speechStreamService = new SpeechStreamServiceImpl(googleService, externalCalls, 20, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        externalCalls.shutdown();
+    }
+
+    @DisplayName("Should write the audio of every chunk in source order even when later chunks finish first")
+    @Test
+    void givenChunksFinishingOutOfOrder_whenStream_thenAudioIsInSourceOrder() {
+        when(googleService.textToSpeech(eq("en-US"), anyString())).thenAnswer(invocation -> {
+            String chunk = invocation.getArgument(1);
+            if (chunk.startsWith("First")) {
+                Thread.sleep(200);
+            }
+            return ByteString.copyFromUtf8(chunk);
+        });
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        speechStreamService.stream(new StringReader(TEXT), "en-US", output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(TEXT);
+    }
+
+    @DisplayName("Should synthesize the chunks again on every stream since they are not stored")
+    @Test
+    void givenTextStreamedTwice_whenStream_thenChunksAreSynthesizedEachTime() {
+        when(googleService.textToSpeech(eq("en-US"), anyString()))
+                .thenAnswer(invocation -> ByteString.copyFromUtf8(invocation.getArgument(1)));
+
+        speechStreamService.stream(new StringReader(TEXT), "en-US", new ByteArrayOutputStream());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        speechStreamService.stream(new StringReader(TEXT), "en-US", output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(TEXT);
+        verify(googleService, times(8)).textToSpeech(eq("en-US"), anyString());
+    }
+
+    @DisplayName("Should fail the stream when a chunk cannot be synthesized")
+    @Test
+    void givenFailingChunk_whenStream_thenThrow() {
+        when(googleService.textToSpeech(eq("en-US"), anyString())).thenAnswer(invocation -> {
+            String chunk = invocation.getArgument(1);
+            if (chunk.startsWith("Second")) {
+                throw new IllegalStateException("quota exceeded");
+            }
+            return ByteString.copyFromUtf8(chunk);
+        });
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> speechStreamService.stream(new StringReader(TEXT), "en-US", output))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("quota exceeded");
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("First sentence. ");
+    }
+}
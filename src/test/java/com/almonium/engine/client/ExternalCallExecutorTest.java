@@ -0,0 +1,145 @@
+package com.almonium.engine.client;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almonium.engine.client.exception.ProviderUnavailableException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Mono;
+
+@FieldDefaults(level = PRIVATE)
+class ExternalCallExecutorTest {
+    ExternalCallExecutor externalCalls;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.external.timeouts.default", "1000")
+                .withProperty("app.external.timeouts.datamuse", "50");
+        externalCalls = new ExternalCallExecutor(2, 1, environment);
+    }
+
+    @AfterEach
+    void tearDown() {
+        externalCalls.shutdown();
+    }
+
+    @DisplayName("Should return the provider result when the call succeeds")
+    @Test
+    void givenSuccessfulCall_whenCall_thenReturnResult() {
+        String result = externalCalls.call(Provider.YANDEX, () -> "result", "fallback").join();
+
+        assertThat(result).isEqualTo("result");
+    }
+
+    @DisplayName("Should return the fallback when the call fails")
+    @Test
+    void givenFailingCall_whenCall_thenReturnFallback() {
+        Supplier<String> failing = () -> {
+            throw new IllegalStateException("boom");
+        };
+
+        String result = externalCalls.call(Provider.YANDEX, failing, "fallback").join();
+
+        assertThat(result).isEqualTo("fallback");
+    }
+
+    @DisplayName("Should return the fallback when the call exceeds the provider timeout")
+    @Test
+    void givenSlowCall_whenCall_thenReturnFallbackAfterProviderTimeout() {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        Supplier<String> hanging = () -> {
+            try {
+                neverReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "late";
+        };
+
+        String result = externalCalls.call(Provider.DATAMUSE, hanging, "fallback").join();
+
+        assertThat(result).isEqualTo("fallback");
+    }
+
+    @DisplayName("Should interrupt a call that exceeds the provider timeout so that its worker is freed")
+    @Test
+    void givenSlowCall_whenTimeoutExpires_thenInterruptWorker() throws InterruptedException {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Supplier<String> hanging = () -> {
+            try {
+                neverReleased.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        };
+
+        externalCalls.call(Provider.DATAMUSE, hanging, "fallback").join();
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @DisplayName("Should reject calls once every worker is busy and the queue is full")
+    @Test
+    void givenSaturatedPool_whenSubmit_thenRejectImmediately() {
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        };
+        for (int i = 0; i < 3; i++) {
+            externalCalls.submit(Provider.YANDEX, blocking);
+        }
+
+        CompletableFuture<String> rejected = externalCalls.submit(Provider.YANDEX, blocking);
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ProviderUnavailableException.class);
+        assertThat(externalCalls.call(Provider.YANDEX, blocking, "fallback").join()).isEqualTo("fallback");
+        release.countDown();
+    }
+
+    @DisplayName("Should emit the provider result when the reactive call succeeds")
+    @Test
+    void givenSuccessfulMono_whenCall_thenEmitResult() {
+        String result = externalCalls.call(Provider.YANDEX, Mono.just("result")).block();
+
+        assertThat(result).isEqualTo("result");
+    }
+
+    @DisplayName("Should complete empty when the reactive call fails")
+    @Test
+    void givenFailingMono_whenCall_thenCompleteEmpty() {
+        Mono<String> failing = Mono.error(new IllegalStateException("boom"));
+
+        assertThat(externalCalls.call(Provider.YANDEX, failing).blockOptional()).isEmpty();
+    }
+
+    @DisplayName("Should complete empty when the reactive call exceeds the provider timeout")
+    @Test
+    void givenSlowMono_whenCall_thenCompleteEmptyAfterProviderTimeout() {
+        Mono<String> hanging = Mono.never();
+
+        assertThat(externalCalls.call(Provider.DATAMUSE, hanging).blockOptional(Duration.ofSeconds(1))).isEmpty();
+    }
+}
@@ -0,0 +1,96 @@
+package com.almonium.engine.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class GzipDecompressingInterceptorTest {
+    private static final String URL = "https://api.example.com/words";
+    private static final String BODY = "[{\"word\":\"flower\",\"score\":100}]";
+
+    RestTemplate restTemplate;
+    MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new GzipDecompressingInterceptor());
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @DisplayName("Should request gzip and inflate a compressed response")
+    @Test
+    void givenGzipResponse_whenExchange_thenBodyIsDecompressed() {
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andRespond(withSuccess(gzip(BODY), MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip"));
+
+        String body = restTemplate.getForObject(URL, String.class);
+
+        assertThat(body).isEqualTo(BODY);
+        server.verify();
+    }
+
+    @DisplayName("Should pass an uncompressed response through unchanged")
+    @Test
+    void givenPlainResponse_whenExchange_thenBodyIsUnchanged() {
+        server.expect(requestTo(URL)).andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+
+        assertThat(restTemplate.getForObject(URL, String.class)).isEqualTo(BODY);
+    }
+
+    @DisplayName("Should close the inflating stream and the provider's body when the response is closed")
+    @Test
+    @SneakyThrows
+    void givenReadGzipResponse_whenClose_thenBodyAndResponseAreClosed() {
+        AtomicBoolean bodyClosed = new AtomicBoolean();
+        ClientHttpResponse raw = mock(ClientHttpResponse.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        when(raw.getHeaders()).thenReturn(headers);
+        when(raw.getBody()).thenReturn(new ByteArrayInputStream(gzip(BODY)) {
+            @Override
+            public void close() {
+                bodyClosed.set(true);
+            }
+        });
+
+        ClientHttpResponse response = new GzipDecompressingInterceptor()
+                .intercept(new MockClientHttpRequest(), new byte[0], (request, body) -> raw);
+        assertThat(new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        response.close();
+
+        assertThat(bodyClosed).isTrue();
+        verify(raw).close();
+    }
+
+    @SneakyThrows
+    private static byte[] gzip(String text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,163 @@
+package com.almonium.engine.client;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almonium.engine.client.dto.ProviderResilienceStatsDto;
+import com.almonium.engine.client.exception.ProviderUnavailableException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+@FieldDefaults(level = PRIVATE)
+class ProviderGuardTest {
+    MockEnvironment environment;
+    ProviderGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment()
+                .withProperty("app.external.timeouts.default", "1000")
+                .withProperty("app.external.timeouts.datamuse", "50")
+                .withProperty("app.external.resilience.rate-per-second.default", "1000")
+                .withProperty("app.external.resilience.rate-per-second.oxford", "1")
+                .withProperty("app.external.resilience.rate-per-second.urban", "0.1")
+                .withProperty("app.external.resilience.burst.default", "1000")
+                .withProperty("app.external.resilience.burst.oxford", "2")
+                .withProperty("app.external.resilience.burst.urban", "2")
+                .withProperty("app.external.resilience.max-concurrent.default", "8")
+                .withProperty("app.external.resilience.max-concurrent.urban", "1");
+        guard = new ProviderGuard(2, 30, environment);
+    }
+
+    @DisplayName("Should reject calls once the provider's token bucket is empty")
+    @Test
+    void givenBurstExhausted_whenExecute_thenRejectWithoutCalling() {
+        guard.execute(Provider.OXFORD, () -> "first");
+        guard.execute(Provider.OXFORD, () -> "second");
+
+        assertThatThrownBy(() -> guard.execute(Provider.OXFORD, () -> "third"))
+                .isInstanceOf(ProviderUnavailableException.class)
+                .hasMessageContaining("rate limit");
+        assertThat(statsOf(Provider.OXFORD).rejectedByRateLimit()).isEqualTo(1);
+    }
+
+    @DisplayName("Should open the breaker after consecutive server errors and fail fast afterwards")
+    @Test
+    void givenConsecutiveServerErrors_whenExecute_thenBreakerOpens() {
+        Supplier<String> failing = () -> {
+            throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+        };
+
+        assertThatThrownBy(() -> guard.execute(Provider.YANDEX, failing)).isInstanceOf(HttpServerErrorException.class);
+        assertThatThrownBy(() -> guard.execute(Provider.YANDEX, failing)).isInstanceOf(HttpServerErrorException.class);
+
+        assertThatThrownBy(() -> guard.execute(Provider.YANDEX, () -> "ok"))
+                .isInstanceOf(ProviderUnavailableException.class)
+                .hasMessageContaining("circuit breaker");
+        ProviderResilienceStatsDto stats = statsOf(Provider.YANDEX);
+        assertThat(stats.breakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(stats.failures()).isEqualTo(2);
+        assertThat(stats.rejectedByBreaker()).isEqualTo(1);
+    }
+
+    @DisplayName("Should not count a not-found answer as a provider failure")
+    @Test
+    void givenNotFoundErrors_whenExecute_thenBreakerStaysClosed() {
+        Supplier<String> notFound = () -> {
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        };
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.execute(Provider.FREE_DICTIONARY, notFound))
+                    .isInstanceOf(HttpClientErrorException.class);
+        }
+
+        ProviderResilienceStatsDto stats = statsOf(Provider.FREE_DICTIONARY);
+        assertThat(stats.breakerState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(stats.failures()).isZero();
+    }
+
+    @DisplayName("Should reject calls beyond the bulkhead and release the permit when a call ends")
+    @Test
+    void givenBulkheadFull_whenExecuteAsync_thenRejectUntilPermitIsReleased() {
+        Disposable inFlight = guard.execute(Provider.URBAN, Mono.never()).subscribe();
+
+        assertThat(statsOf(Provider.URBAN).activeCalls()).isEqualTo(1);
+        assertThatThrownBy(() -> guard.execute(Provider.URBAN, Mono.just("second")).block())
+                .isInstanceOf(ProviderUnavailableException.class)
+                .hasMessageContaining("concurrent");
+
+        inFlight.dispose();
+
+        assertThat(statsOf(Provider.URBAN).activeCalls()).isZero();
+        assertThat(statsOf(Provider.URBAN).rejectedByBulkhead()).isEqualTo(1);
+    }
+
+    @DisplayName("Should give the rate token back when the bulkhead rejects a call")
+    @Test
+    void givenBulkheadFull_whenRejectedRepeatedly_thenRateTokensAreNotSpent() {
+        Disposable inFlight = guard.execute(Provider.URBAN, Mono.never()).subscribe();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.execute(Provider.URBAN, () -> "rejected"))
+                    .isInstanceOf(ProviderUnavailableException.class)
+                    .hasMessageContaining("concurrent");
+        }
+        inFlight.dispose();
+
+        assertThat(guard.execute(Provider.URBAN, () -> "served")).isEqualTo("served");
+        ProviderResilienceStatsDto stats = statsOf(Provider.URBAN);
+        assertThat(stats.rejectedByBulkhead()).isEqualTo(3);
+        assertThat(stats.rejectedByRateLimit()).isZero();
+    }
+
+    @DisplayName("Should fail a reactive call that exceeds the provider timeout and count it as a failure")
+    @Test
+    void givenSlowMono_whenExecuteAsync_thenTimeoutIsAFailure() {
+        Mono<String> call = guard.execute(Provider.DATAMUSE, Mono.never());
+
+        assertThatThrownBy(call::block).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(statsOf(Provider.DATAMUSE).failures()).isEqualTo(1);
+        assertThat(statsOf(Provider.DATAMUSE).activeCalls()).isZero();
+    }
+
+    @DisplayName("Should settle a half-open breaker when its trial call throws an error")
+    @Test
+    void givenHalfOpenBreaker_whenTrialCallThrowsError_thenBreakerReopens() {
+        guard = new ProviderGuard(1, 0, environment);
+        Supplier<String> crashing = () -> {
+            throw new LinkageError("provider client failed to load");
+        };
+
+        assertThatThrownBy(() -> guard.execute(Provider.YANDEX, crashing)).isInstanceOf(LinkageError.class);
+        assertThat(statsOf(Provider.YANDEX).breakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // with no open period, the next call is the half-open trial
+        assertThatThrownBy(() -> guard.execute(Provider.YANDEX, crashing)).isInstanceOf(LinkageError.class);
+        assertThat(statsOf(Provider.YANDEX).breakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(guard.execute(Provider.YANDEX, () -> "ok")).isEqualTo("ok");
+        ProviderResilienceStatsDto stats = statsOf(Provider.YANDEX);
+        assertThat(stats.breakerState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(stats.failures()).isEqualTo(2);
+        assertThat(stats.activeCalls()).isZero();
+    }
+
+    private ProviderResilienceStatsDto statsOf(Provider provider) {
+        return guard.getStats().stream()
+                .filter(stats -> stats.provider() == provider)
+                .findFirst()
+                .orElseThrow();
+    }
+}
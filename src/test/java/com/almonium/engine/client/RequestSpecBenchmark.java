@@ -0,0 +1,76 @@
+package com.almonium.engine.client;
+
+import com.almonium.util.GeneralUtils;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilderFactory;
+
+/**
+ * Compares preparing a provider request per call with expanding a precompiled {@link RequestSpec}.
+ * Not part of the test suite; run {@link #main} and compare {@code gc.alloc.rate.norm} of the two benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestSpecBenchmark {
+    private static final String URL = "https://api.datamuse.com/words";
+    private static final String RELATION = "rel_hom";
+    private static final String API_KEY_HEADER = "X-RapidAPI-Key";
+    private static final String API_KEY = "benchmark-key";
+    private static final Map<String, String> PARAMS = Map.of(RELATION, "flower");
+
+    // variable expansion is left to every request either way
+    final UriBuilderFactory uriFactory = new DefaultUriBuilderFactory();
+    final RequestSpec spec = RequestSpec.of(URL, List.of(RELATION), Map.of(API_KEY_HEADER, API_KEY));
+
+    @Benchmark
+    public void perCall(Blackhole blackhole) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(API_KEY_HEADER, API_KEY);
+        headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        String urlTemplate = GeneralUtils.queryBuilder(URL, List.of(RELATION));
+        blackhole.consume(new HttpEntity<>(headers));
+        blackhole.consume(expand(urlTemplate));
+    }
+
+    @Benchmark
+    public void precompiled(Blackhole blackhole) {
+        blackhole.consume(spec.entity());
+        blackhole.consume(expand(spec.urlTemplate()));
+    }
+
+    private URI expand(String urlTemplate) {
+        return uriFactory.expand(urlTemplate, PARAMS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(RequestSpecBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,43 @@
+package com.almonium.engine.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+class RequestSpecTest {
+    private static final String URL = "https://api.example.com/words/{word}";
+
+    final RequestSpec spec = RequestSpec.of(URL, List.of("max"), Map.of("X-Api-Key", "secret"));
+
+    @DisplayName("Should keep placeholders for path segments and query values in the template")
+    @Test
+    void givenPathAndQueryVariables_whenOf_thenTemplateKeepsPlaceholders() {
+        assertThat(spec.urlTemplate()).isEqualTo("https://api.example.com/words/{word}?max={max}");
+    }
+
+    @DisplayName("Should encode the values when the template is expanded")
+    @Test
+    void givenValuesWithReservedCharacters_whenExpand_thenValuesAreEncoded() {
+        URI uri = new DefaultUriBuilderFactory().expand(spec.urlTemplate(), Map.of("word", "ice cream", "max", 1));
+
+        assertThat(uri.toString()).isEqualTo("https://api.example.com/words/ice%20cream?max=1");
+    }
+
+    @DisplayName("Should carry the constant headers in a shared, read-only entity")
+    @Test
+    void givenHeaders_whenOf_thenEntityHeadersAreReadOnly() {
+        HttpHeaders headers = spec.entity().getHeaders();
+
+        assertThat(headers.getFirst("X-Api-Key")).isEqualTo("secret");
+        assertThat(headers.getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThatThrownBy(() -> headers.set("X-Api-Key", "other")).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
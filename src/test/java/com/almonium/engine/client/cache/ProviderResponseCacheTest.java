@@ -0,0 +1,205 @@
+package com.almonium.engine.client.cache;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.cache.dto.ProviderCacheStatsDto;
+import com.almonium.engine.client.cache.model.entity.CachedProviderResponse;
+import com.almonium.engine.client.cache.repository.CachedProviderResponseRepository;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class ProviderResponseCacheTest {
+    private static final String ENDPOINT = "rel_hom";
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+    final JavaType stringList = objectMapper.getTypeFactory().constructCollectionType(List.class, String.class);
+
+    @Mock
+    CachedProviderResponseRepository repository;
+
+    @DisplayName("Should call the provider once for repeated lookups of the same normalized word")
+    @Test
+    void givenRepeatedLookup_whenGet_thenProviderIsCalledOnce() {
+        ProviderResponseCache cache = cache(false);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<ResponseEntity<List<String>>> loader = () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.ok(List.of("flour"));
+        };
+
+        cache.get(Provider.DATAMUSE, ENDPOINT, "flower", stringList, loader);
+        ResponseEntity<List<String>> response = cache.get(Provider.DATAMUSE, ENDPOINT, " Flower ", stringList, loader);
+
+        assertThat(response.getBody()).containsExactly("flour");
+        assertThat(calls).hasValue(1);
+        ProviderCacheStatsDto stats = statsOf(cache, Provider.DATAMUSE);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.size()).isEqualTo(1);
+    }
+
+    @DisplayName("Should not cache unsuccessful responses")
+    @Test
+    void givenErrorResponse_whenGet_thenResponseIsNotCached() {
+        ProviderResponseCache cache = cache(false);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<ResponseEntity<List<String>>> loader = () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        };
+
+        cache.get(Provider.YANDEX, "en-ru", "flower", stringList, loader);
+        cache.get(Provider.YANDEX, "en-ru", "flower", stringList, loader);
+
+        assertThat(calls).hasValue(2);
+        assertThat(statsOf(cache, Provider.YANDEX).size()).isZero();
+    }
+
+    @DisplayName("Should keep entries of different endpoints apart")
+    @Test
+    void givenDifferentEndpoints_whenGet_thenEachEndpointIsLoaded() {
+        ProviderResponseCache cache = cache(false);
+
+        cache.get(Provider.DATAMUSE, "rel_hom", "flower", stringList, () -> ResponseEntity.ok(List.of("flour")));
+        ResponseEntity<List<String>> response =
+                cache.get(Provider.DATAMUSE, "rel_jjb", "flower", stringList, () -> ResponseEntity.ok(List.of("red")));
+
+        assertThat(response.getBody()).containsExactly("red");
+    }
+
+    @DisplayName("Should serve a fresh persisted response without calling the provider")
+    @Test
+    void givenPersistedResponse_whenGet_thenProviderIsNotCalled() {
+        ProviderResponseCache cache = cache(true);
+        String key = cache.key(Provider.DATAMUSE, ENDPOINT, "flower");
+        when(repository.findById(key))
+                .thenReturn(Optional.of(new CachedProviderResponse(
+                        key, Provider.DATAMUSE, "[\"flour\"]", LocalDateTime.now().minusMinutes(1))));
+
+        ResponseEntity<List<String>> response = cache.get(Provider.DATAMUSE, ENDPOINT, "flower", stringList, () -> {
+            throw new AssertionError("provider must not be called");
+        });
+
+        assertThat(response.getBody()).containsExactly("flour");
+        assertThat(statsOf(cache, Provider.DATAMUSE).persistentHitCount()).isEqualTo(1);
+        verify(repository, never()).save(any());
+    }
+
+    @DisplayName("Should persist a loaded response when the persistent tier is enabled")
+    @Test
+    void givenPersistentTier_whenGetMisses_thenResponseIsPersisted() {
+        ProviderResponseCache cache = cache(true);
+        when(repository.findById(any())).thenReturn(Optional.empty());
+
+        cache.get(Provider.DATAMUSE, ENDPOINT, "flower", stringList, () -> ResponseEntity.ok(List.of("flour")));
+
+        verify(repository).save(any(CachedProviderResponse.class));
+    }
+
+    @DisplayName("Should keep spellings apart for providers that are not configured to fold case")
+    @Test
+    void givenCaseSensitiveProvider_whenGetDifferentCase_thenEachSpellingIsLoaded() {
+        ProviderResponseCache cache = cache(false);
+
+        cache.get(Provider.YANDEX, "en-es", "turkey", stringList, () -> ResponseEntity.ok(List.of("pavo")));
+        ResponseEntity<List<String>> response =
+                cache.get(Provider.YANDEX, "en-es", "Turkey", stringList, () -> ResponseEntity.ok(List.of("Turquia")));
+
+        assertThat(response.getBody()).containsExactly("Turquia");
+        assertThat(statsOf(cache, Provider.YANDEX).size()).isEqualTo(2);
+    }
+
+    @DisplayName("Should call the provider once when concurrent lookups miss the same key")
+    @Test
+    void givenConcurrentMisses_whenGet_thenProviderIsCalledOnce() throws InterruptedException {
+        ProviderResponseCache cache = cache(false);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<ResponseEntity<List<String>>> loader = () -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ResponseEntity.ok(List.of("flour"));
+        };
+        Supplier<ResponseEntity<List<String>>> lookup =
+                () -> cache.get(Provider.DATAMUSE, ENDPOINT, "flower", stringList, loader);
+        CompletableFuture<ResponseEntity<List<String>>> first = CompletableFuture.supplyAsync(lookup);
+        loading.await();
+
+        CompletableFuture<ResponseEntity<List<String>>> second = CompletableFuture.supplyAsync(lookup);
+        release.countDown();
+
+        assertThat(first.join().getBody()).containsExactly("flour");
+        assertThat(second.join().getBody()).containsExactly("flour");
+        assertThat(calls).hasValue(1);
+    }
+
+    @DisplayName("Should delete persisted responses older than each provider's TTL")
+    @Test
+    void givenPersistentTier_whenPurgeExpired_thenDeleteByProviderTtl() {
+        ProviderResponseCache cache = cache(true);
+        LocalDateTime before = LocalDateTime.now();
+
+        cache.purgeExpired();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).deleteByProviderAndFetchedAtBefore(eq(Provider.YANDEX), cutoff.capture());
+        assertThat(cutoff.getValue()).isBefore(before.minusMinutes(119)).isAfter(before.minusMinutes(121));
+        verify(repository).deleteByProviderAndFetchedAtBefore(eq(Provider.DATAMUSE), any());
+    }
+
+    @DisplayName("Should not touch the table when the persistent tier is disabled")
+    @Test
+    void givenHeapOnlyCache_whenPurgeExpired_thenRepositoryIsNotUsed() {
+        cache(false).purgeExpired();
+
+        verifyNoInteractions(repository);
+    }
+
+    private ProviderResponseCache cache(boolean persistent) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.external.cache.ttl-minutes.default", "60")
+                .withProperty("app.external.cache.ttl-minutes.yandex", "120")
+                .withProperty("app.external.cache.fold-case.datamuse", "true");
+        return new ProviderResponseCache(100, persistent, environment, repository, objectMapper);
+    }
+
+    private static ProviderCacheStatsDto statsOf(ProviderResponseCache cache, Provider provider) {
+        return cache.getStats().stream()
+                .filter(stats -> stats.provider() == provider)
+                .findFirst()
+                .orElseThrow();
+    }
+}
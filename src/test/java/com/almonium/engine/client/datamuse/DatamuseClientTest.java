@@ -0,0 +1,91 @@
+package com.almonium.engine.client.datamuse;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.almonium.engine.client.cache.ProviderResponseCache;
+import com.almonium.engine.client.cache.repository.CachedProviderResponseRepository;
+import com.almonium.engine.client.datamuse.dto.DatamuseEntryDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+@FieldDefaults(level = PRIVATE)
+class DatamuseClientTest {
+    private static final String LEXICON = "rel_hom\tflower\tflour\n";
+    private static final String BODY = "[{\"word\":\"knight\",\"score\":\"100\"}]";
+
+    final List<URI> requests = new CopyOnWriteArrayList<>();
+    HttpStatus upstreamStatus = HttpStatus.OK;
+    DatamuseClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new DatamuseClient(new LocalLexicon(new ByteArrayResource(LEXICON.getBytes(StandardCharsets.UTF_8))));
+        client.setWebClient(WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request.url());
+                    return Mono.just(ClientResponse.create(upstreamStatus)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(BODY)
+                            .build());
+                })
+                .build());
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.external.cache.ttl-minutes.default", "60")
+                .withProperty("app.external.cache.fold-case.datamuse", "true");
+        client.setResponseCache(new ProviderResponseCache(
+                100, false, environment, mock(CachedProviderResponseRepository.class), new ObjectMapper()));
+    }
+
+    @DisplayName("Should answer from the local lexicon without calling Datamuse")
+    @Test
+    void givenWordInLexicon_whenGetHomophonesAsync_thenNoRequestIsSent() {
+        ResponseEntity<List<DatamuseEntryDto>> response = client.getHomophonesAsync("flower").block();
+
+        assertThat(response.getBody()).extracting(DatamuseEntryDto::getWord).containsExactly("flour");
+        assertThat(requests).isEmpty();
+    }
+
+    @DisplayName("Should call Datamuse once and serve the repeated lookup from the response cache")
+    @Test
+    void givenUnknownWord_whenGetHomophonesAsyncTwice_thenProviderIsCalledOnce() {
+        ResponseEntity<List<DatamuseEntryDto>> first = client.getHomophonesAsync("night").block();
+        ResponseEntity<List<DatamuseEntryDto>> second = client.getHomophonesAsync("Night").block();
+
+        assertThat(first.getBody()).extracting(DatamuseEntryDto::getWord).containsExactly("knight");
+        assertThat(second.getBody()).extracting(DatamuseEntryDto::getWord).containsExactly("knight");
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getQuery()).isEqualTo("rel_hom=night");
+    }
+
+    @DisplayName("Should fail the lookup and cache nothing when Datamuse responds with an error")
+    @Test
+    void givenUpstreamError_whenGetHomophonesAsync_thenMonoFailsAndNothingIsCached() {
+        upstreamStatus = HttpStatus.SERVICE_UNAVAILABLE;
+
+        Mono<ResponseEntity<List<DatamuseEntryDto>>> lookup = client.getHomophonesAsync("night");
+
+        assertThatThrownBy(lookup::block).isInstanceOf(WebClientResponseException.class);
+        assertThatThrownBy(lookup::block).isInstanceOf(WebClientResponseException.class);
+        assertThat(requests).hasSize(2);
+    }
+}
@@ -0,0 +1,54 @@
+package com.almonium.engine.client.datamuse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+class LocalLexiconTest {
+    private static final String LEXICON = """
+            # relation\tword\tvalues
+            f\tflower\t25.0
+            f\tbroken\tnot-a-number
+            rel_hom\tflower\tflour
+            rel_syn\tbig\tlarge,huge
+            malformed line
+            """;
+
+    final LocalLexicon lexicon = new LocalLexicon(new ByteArrayResource(LEXICON.getBytes(StandardCharsets.UTF_8)));
+
+    @DisplayName("Should find related words by relation and normalized word")
+    @Test
+    void givenKnownWord_whenLookup_thenReturnRelatedWords() {
+        assertThat(lexicon.lookup("rel_syn", " Big ")).hasValueSatisfying(words -> assertThat(words)
+                .containsExactly("large", "huge"));
+        assertThat(lexicon.lookup("rel_hom", "flower")).hasValueSatisfying(words -> assertThat(words)
+                .containsExactly("flour"));
+    }
+
+    @DisplayName("Should miss for unknown words and relations")
+    @Test
+    void givenUnknownWordOrRelation_whenLookup_thenReturnEmpty() {
+        assertThat(lexicon.lookup("rel_syn", "flower")).isEmpty();
+        assertThat(lexicon.lookup("rel_ant", "big")).isEmpty();
+    }
+
+    @DisplayName("Should return frequencies and skip malformed ones")
+    @Test
+    void givenFrequencies_whenFrequency_thenReturnParsedValues() {
+        assertThat(lexicon.frequency("flower")).hasValue(25.0);
+        assertThat(lexicon.frequency("broken")).isEmpty();
+    }
+
+    @DisplayName("Should load the bundled lexicon")
+    @Test
+    void givenBundledLexicon_whenLoaded_thenCommonWordsAreServedLocally() {
+        LocalLexicon bundled = new LocalLexicon(new ClassPathResource("lexicon/en-lexicon.tsv"));
+
+        assertThat(bundled.lookup("rel_hom", "there")).isPresent();
+        assertThat(bundled.frequency("the")).isPresent();
+    }
+}
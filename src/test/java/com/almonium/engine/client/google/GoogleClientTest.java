@@ -0,0 +1,78 @@
+package com.almonium.engine.client.google;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.almonium.engine.client.google.dto.GoogleDto;
+import com.almonium.engine.translator.model.enums.Language;
+import java.util.List;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+@FieldDefaults(level = PRIVATE)
+class GoogleClientTest {
+    private static final String BODY =
+            """
+            [
+              {"ngram": "flower", "parent": "", "type": "NGRAM", "timeseries": [1.5e-05, 1.6e-05]},
+              {"ngram": "flowers", "parent": "", "type": "NGRAM", "timeseries": [2.5e-05, 2.6e-05]},
+              {"ngram": "flowery", "parent": "", "type": "NGRAM", "timeseries": [3.5e-07, 3.6e-07]}
+            ]
+            """;
+
+    GoogleClient client;
+    MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new GoogleClient();
+        client.setRestTemplate(restTemplate);
+    }
+
+    @DisplayName("Should decode every element of the array straight into the DTO")
+    @Test
+    void givenArrayResponse_whenGet_thenReturnAllItems() {
+        server.expect(method(HttpMethod.GET)).andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+
+        ResponseEntity<List<GoogleDto>> response = client.get("flower", Language.EN);
+
+        assertThat(response.getBody())
+                .extracting(GoogleDto::getNgram)
+                .containsExactly("flower", "flowers", "flowery");
+        assertThat(response.getBody().get(0).getTimeseries()).hasSize(2);
+        server.verify();
+    }
+
+    @DisplayName("Should stop reading once the item limit is reached")
+    @Test
+    void givenItemLimit_whenGet_thenReturnOnlyFirstItems() {
+        client.setMaxListItems(2);
+        server.expect(method(HttpMethod.GET)).andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+
+        ResponseEntity<List<GoogleDto>> response = client.get("flower", Language.EN);
+
+        assertThat(response.getBody()).extracting(GoogleDto::getNgram).containsExactly("flower", "flowers");
+    }
+
+    @DisplayName("Should fail when the response has no body")
+    @Test
+    void givenEmptyBody_whenGet_thenThrowException() {
+        server.expect(method(HttpMethod.GET)).andRespond(withSuccess());
+
+        assertThatThrownBy(() -> client.get("flower", Language.EN))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Body of response is null");
+    }
+}
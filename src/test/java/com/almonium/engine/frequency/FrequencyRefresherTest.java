@@ -0,0 +1,96 @@
+package com.almonium.engine.frequency;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.engine.client.google.GoogleClient;
+import com.almonium.engine.translator.model.enums.Language;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalDouble;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class FrequencyRefresherTest {
+    @TempDir
+    Path directory;
+
+    @Mock
+    GoogleClient googleClient;
+
+    @Mock
+    CardRepository cardRepository;
+
+    FrequencyIndex frequencyIndex;
+    FrequencyRefresher frequencyRefresher;
+
+    @BeforeEach
+    void setUp() {
+        frequencyIndex = new FrequencyIndex(directory, new DefaultResourceLoader());
+        frequencyRefresher = new FrequencyRefresher(googleClient, frequencyIndex, cardRepository);
+    }
+
+    @DisplayName("Should serve the bundled seed list before any refresh")
+    @Test
+    void givenNoTableOnDisk_whenFrequency_thenServeSeedList() {
+        assertThat(frequencyIndex.frequency("the", Language.EN)).isPresent();
+        assertThat(frequencyIndex.frequency("the", Language.PL)).isEmpty();
+    }
+
+    @DisplayName("Should write the fetched frequencies and serve them after a refresh")
+    @Test
+    void givenRemoteFrequencies_whenRefresh_thenIndexServesNewTable() {
+        when(googleClient.getFrequency("flower", Language.DE)).thenReturn(OptionalDouble.of(1.0e-6));
+        when(googleClient.getFrequency("blume", Language.DE)).thenThrow(new IllegalStateException("rate limited"));
+
+        frequencyRefresher.refresh(Language.DE, List.of("flower", "blume"));
+
+        assertThat(frequencyIndex.tablePath(Language.DE)).exists();
+        assertThat(frequencyIndex.frequency("flower", Language.DE)).hasValue(1.0e-6);
+        assertThat(frequencyIndex.frequency("blume", Language.DE)).isEmpty();
+    }
+
+    @DisplayName("Should keep the current table when nothing could be fetched")
+    @Test
+    void givenNoRemoteFrequencies_whenRefresh_thenKeepCurrentTable() {
+        when(googleClient.getFrequency("the", Language.EN)).thenReturn(OptionalDouble.empty());
+
+        frequencyRefresher.refresh(Language.EN, List.of("the"));
+
+        assertThat(frequencyIndex.tablePath(Language.EN)).doesNotExist();
+        assertThat(frequencyIndex.frequency("the", Language.EN)).isPresent();
+    }
+
+    @DisplayName("Should fetch missed words and card entries, and keep the seed words in the grown table")
+    @Test
+    void givenMissesAndCardEntries_whenRefreshAll_thenFetchOnlyUnknownWords() {
+        assertThat(frequencyIndex.frequency("serendipity", Language.EN)).isEmpty();
+        when(cardRepository.findDistinctEntriesByLanguage(any())).thenReturn(List.of());
+        when(cardRepository.findDistinctEntriesByLanguage(Language.EN)).thenReturn(List.of("the", "ephemeral"));
+        when(googleClient.getFrequency("serendipity", Language.EN)).thenReturn(OptionalDouble.of(2.0e-7));
+        when(googleClient.getFrequency("ephemeral", Language.EN)).thenReturn(OptionalDouble.of(1.0e-6));
+
+        frequencyRefresher.refreshAll();
+
+        verify(googleClient, never()).getFrequency(eq("the"), any());
+        assertThat(frequencyIndex.frequency("serendipity", Language.EN)).hasValue(2.0e-7);
+        assertThat(frequencyIndex.frequency("ephemeral", Language.EN)).hasValue(1.0e-6);
+        assertThat(frequencyIndex.frequency("the", Language.EN)).isPresent();
+        assertThat(frequencyIndex.drainMisses(Language.EN)).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package com.almonium.engine.frequency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FrequencyTableTest {
+    private static final Map<String, Double> FREQUENCIES = Map.of("the", 5e-2, "flower", 2.5e-5, "flour", 6.5e-6);
+    private static final int LARGE_VOCABULARY = 200_000;
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("Should find frequencies of known words regardless of case")
+    @Test
+    void givenTable_whenGet_thenReturnFrequencyOfNormalizedWord() {
+        FrequencyTable table = FrequencyTable.of(FREQUENCIES);
+
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(table.get("Flower ")).hasValue(2.5e-5);
+        assertThat(table.get("flour")).hasValue(6.5e-6);
+        assertThat(table.get("flowers")).isEmpty();
+    }
+
+    @DisplayName("Should read back a written table through a memory mapping")
+    @Test
+    @SneakyThrows
+    void givenWrittenTable_whenMap_thenReturnSameFrequencies() {
+        Path path = directory.resolve("en.freq");
+
+        FrequencyTable.write(path, FREQUENCIES);
+        FrequencyTable table = FrequencyTable.map(path);
+
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(table.get("the")).hasValue(5e-2);
+        assertThat(table.get("a")).isEmpty();
+    }
+
+    @DisplayName("Should keep the existing entries when new words are added to a mapped table")
+    @Test
+    @SneakyThrows
+    void givenMappedTable_whenWith_thenContainBothOldAndNewWords() {
+        Path path = directory.resolve("en.freq");
+        FrequencyTable.write(path, FREQUENCIES);
+
+        FrequencyTable merged = FrequencyTable.map(path).with(Map.of("bloom", 3.0e-6, "flour", 7.0e-6));
+        merged.write(path);
+        FrequencyTable reread = FrequencyTable.map(path);
+
+        assertThat(reread.size()).isEqualTo(4);
+        assertThat(reread.get("the")).hasValue(5e-2);
+        assertThat(reread.get("bloom")).hasValue(3.0e-6);
+        assertThat(reread.get("flour")).hasValue(7.0e-6);
+    }
+
+    @DisplayName("Should reject files that are not frequency tables")
+    @Test
+    @SneakyThrows
+    void givenForeignFile_whenMap_thenThrow() {
+        Path path = Files.write(directory.resolve("garbage.freq"), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> FrequencyTable.map(path)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("Should parse seed lists and skip comments")
+    @Test
+    @SneakyThrows
+    void givenSeedList_whenParseTsv_thenReturnFrequencies() {
+        String seed = "# comment\nThe\t5.0e-02\n\nflower\t2.5e-05\n";
+
+        Map<String, Double> frequencies =
+                FrequencyTable.parseTsv(new ByteArrayInputStream(seed.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(frequencies).containsOnly(Map.entry("the", 5e-2), Map.entry("flower", 2.5e-5));
+    }
+
+    @DisplayName("Should keep every word of a large vocabulary apart although only hashes are stored")
+    @Test
+    void givenLargeVocabulary_whenGet_thenEveryWordHasItsOwnFrequencyAndAbsentWordsMiss() {
+        Map<String, Double> frequencies = new HashMap<>();
+        IntStream.range(0, LARGE_VOCABULARY).forEach(i -> frequencies.put("word" + i, (double) i));
+
+        FrequencyTable table = FrequencyTable.of(frequencies);
+
+        assertThat(table.size()).isEqualTo(LARGE_VOCABULARY);
+        assertThat(IntStream.range(0, LARGE_VOCABULARY))
+                .allMatch(i -> table.get("word" + i).orElse(-1) == i)
+                .noneMatch(i -> table.get("absent" + i).isPresent());
+    }
+}
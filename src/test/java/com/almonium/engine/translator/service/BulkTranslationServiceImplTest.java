@@ -0,0 +1,89 @@
+package com.almonium.engine.translator.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.almonium.engine.client.ExternalCallExecutor;
+import com.almonium.engine.translator.dto.TranslationSegmentDto;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.impl.BulkTranslationServiceImpl;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class BulkTranslationServiceImplTest {
+    private static final String TEXT = "First sentence. Second sentence. Third sentence. Fourth sentence.";
+
+    @Mock
+    TranslationService googleService;
+
+    ExternalCallExecutor externalCalls;
+    BulkTranslationService bulkTranslationService;
+
+    @BeforeEach
+    void setUp() {
+        externalCalls = new ExternalCallExecutor(
+                4, 64, new MockEnvironment().withProperty("app.external.timeouts.default", "5000"));
+        bulkTranslationService = new BulkTranslationServiceImpl(googleService, externalCalls, 20, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        externalCalls.shutdown();
+    }
+
+    @DisplayName("Should emit translated segments in source order even when later chunks finish first")
+    @Test
+    void givenChunksFinishingOutOfOrder_whenTranslate_thenSegmentsAreInSourceOrder() {
+        when(googleService.bulkTranslateText(anyString(), eq("de"))).thenAnswer(invocation -> {
+            String chunk = invocation.getArgument(0);
+            if (chunk.startsWith("First")) {
+                Thread.sleep(200);
+            }
+            return chunk.toUpperCase(Locale.ROOT);
+        });
+        List<TranslationSegmentDto> segments = new ArrayList<>();
+
+        bulkTranslationService.translate(new StringReader(TEXT), Language.DE, segments::add);
+
+        assertThat(segments)
+                .extracting(TranslationSegmentDto::index)
+                .containsExactly(0, 1, 2, 3);
+        assertThat(segments.stream().map(TranslationSegmentDto::text).reduce("", String::concat))
+                .isEqualTo(TEXT.toUpperCase(Locale.ROOT));
+    }
+
+    @DisplayName("Should fail the stream when a chunk cannot be translated")
+    @Test
+    void givenFailingChunk_whenTranslate_thenThrow() {
+        when(googleService.bulkTranslateText(anyString(), eq("de"))).thenAnswer(invocation -> {
+            String chunk = invocation.getArgument(0);
+            if (chunk.startsWith("Second")) {
+                throw new IllegalStateException("quota exceeded");
+            }
+            return chunk;
+        });
+        List<TranslationSegmentDto> segments = new ArrayList<>();
+
+        assertThatThrownBy(() -> bulkTranslationService.translate(new StringReader(TEXT), Language.DE, segments::add))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("quota exceeded");
+        assertThat(segments).extracting(TranslationSegmentDto::index).containsExactly(0);
+    }
+}
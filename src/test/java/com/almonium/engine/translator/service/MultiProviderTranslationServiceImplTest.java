@@ -0,0 +1,221 @@
+package com.almonium.engine.translator.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.almonium.engine.client.ExternalCallExecutor;
+import com.almonium.engine.client.Provider;
+import com.almonium.engine.client.exception.ProviderUnavailableException;
+import com.almonium.engine.translator.dto.DefinitionDto;
+import com.almonium.engine.translator.dto.TranslationCardDto;
+import com.almonium.engine.translator.dto.TranslationDto;
+import com.almonium.engine.translator.model.entity.Translator;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.impl.MultiProviderTranslationServiceImpl;
+import com.almonium.engine.translator.service.impl.TranslatorRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class MultiProviderTranslationServiceImplTest {
+    @Mock
+    TranslatorRegistry translatorRegistry;
+
+    ExternalCallExecutor externalCalls;
+
+    @BeforeEach
+    void setUp() {
+        externalCalls = new ExternalCallExecutor(
+                4, 64, new MockEnvironment().withProperty("app.external.timeouts.default", "5000"));
+        lenient().when(translatorRegistry.route(Language.EN, Language.RU)).thenReturn(new long[] {3L, 1L});
+        lenient().when(translatorRegistry.getById(3L)).thenReturn(new Translator(3L, "YANDEX"));
+        lenient().when(translatorRegistry.getById(1L)).thenReturn(new Translator(1L, "GOOGLE"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        externalCalls.shutdown();
+    }
+
+    @DisplayName("Should answer from the highest priority translator without calling the others")
+    @Test
+    void givenFastPrimary_whenTranslateInHedgeMode_thenPrimaryAnswerIsReturned() {
+        FakeProvider yandex = new FakeProvider("YANDEX", () -> card("YANDEX", "house", "dom"));
+        FakeProvider google = new FakeProvider("GOOGLE", () -> card("GOOGLE", "house", "zdanie"));
+
+        TranslationCardDto result = service("hedge", 1000, yandex, google).translate("house", Language.EN, Language.RU);
+
+        assertThat(result.getProvider()).isEqualTo("YANDEX");
+        assertThat(google.calls).hasValue(0);
+    }
+
+    @DisplayName("Should start the next translator when the primary exceeds the hedge delay")
+    @Test
+    void givenSlowPrimary_whenTranslateInHedgeMode_thenHedgedAnswerIsReturned() {
+        FakeProvider yandex = new FakeProvider("YANDEX", () -> {
+            sleep(2000);
+            return card("YANDEX", "house", "dom");
+        });
+        FakeProvider google = new FakeProvider("GOOGLE", () -> card("GOOGLE", "house", "zdanie"));
+
+        long start = System.currentTimeMillis();
+        TranslationCardDto result = service("hedge", 50, yandex, google).translate("house", Language.EN, Language.RU);
+
+        assertThat(result.getProvider()).isEqualTo("GOOGLE");
+        assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+    }
+
+    @DisplayName("Should wait the full hedge delay for the secondary when it was started after a primary failure")
+    @Test
+    void givenPrimaryFailingBeforeHedgeDelay_whenTranslateInHedgeMode_thenThirdWaitsForSecondarysDelay() {
+        when(translatorRegistry.route(Language.EN, Language.DE)).thenReturn(new long[] {3L, 1L, 2L});
+        when(translatorRegistry.getById(2L)).thenReturn(new Translator(2L, "MICROSOFT"));
+        FakeProvider yandex = new FakeProvider("YANDEX", () -> {
+            sleep(300);
+            return null;
+        });
+        FakeProvider google = new FakeProvider("GOOGLE", () -> {
+            sleep(2000);
+            return card("GOOGLE", "house", "Gebaeude");
+        });
+        AtomicLong thirdStarted = new AtomicLong();
+        FakeProvider microsoft = new FakeProvider("MICROSOFT", () -> {
+            thirdStarted.set(System.currentTimeMillis());
+            return card("MICROSOFT", "house", "Haus");
+        });
+
+        long start = System.currentTimeMillis();
+        TranslationCardDto result =
+                service("hedge", 500, yandex, google, microsoft).translate("house", Language.EN, Language.DE);
+
+        assertThat(result.getProvider()).isEqualTo("MICROSOFT");
+        // started once the secondary has run for the delay (about 800 ms), not on the primary's timer at 500 ms
+        assertThat(thirdStarted.get() - start).isGreaterThanOrEqualTo(700);
+    }
+
+    @DisplayName("Should fall through to the next translator when the primary has no translation")
+    @Test
+    void givenPrimaryWithoutTranslation_whenTranslateInHedgeMode_thenNextTranslatorIsUsed() {
+        FakeProvider yandex = new FakeProvider("YANDEX", () -> null);
+        FakeProvider google = new FakeProvider("GOOGLE", () -> card("GOOGLE", "house", "zdanie"));
+
+        TranslationCardDto result = service("hedge", 1000, yandex, google).translate("house", Language.EN, Language.RU);
+
+        assertThat(result.getProvider()).isEqualTo("GOOGLE");
+    }
+
+    @DisplayName("Should return null when no translator has a translation")
+    @Test
+    void givenNoTranslations_whenTranslateInHedgeMode_thenNullIsReturned() {
+        FakeProvider yandex = new FakeProvider("YANDEX", () -> null);
+        FakeProvider google = new FakeProvider("GOOGLE", () -> {
+            throw new IllegalStateException("down");
+        });
+
+        assertThat(service("hedge", 1000, yandex, google).translate("house", Language.EN, Language.RU))
+                .isNull();
+    }
+
+    @DisplayName("Should merge the cards of all translators in priority order")
+    @Test
+    void givenSeveralTranslators_whenTranslateInMergeMode_thenCardsAreMerged() {
+        FakeProvider yandex = new FakeProvider("YANDEX", () -> card("YANDEX", "house", "dom"));
+        FakeProvider google = new FakeProvider("GOOGLE", () -> card("GOOGLE", "house", "dom", "zdanie"));
+
+        TranslationCardDto result = service("merge", 1000, yandex, google).translate("house", Language.EN, Language.RU);
+
+        assertThat(result.getProvider()).isEqualTo("YANDEX,GOOGLE");
+        assertThat(result.getDefinitions()).hasSize(1);
+        assertThat(Arrays.stream(result.getDefinitions()[0].getTranslations()).map(TranslationDto::getText))
+                .containsExactly("dom", "zdanie");
+    }
+
+    @DisplayName("Should fall through to the next translator when the provider guard rejects the primary")
+    @Test
+    void givenPrimaryRejectedByGuard_whenTranslateInHedgeMode_thenNextTranslatorIsUsed() {
+        FakeProvider yandex = new FakeProvider("YANDEX", () -> {
+            throw new ProviderUnavailableException(Provider.YANDEX, "circuit breaker is open");
+        });
+        FakeProvider google = new FakeProvider("GOOGLE", () -> card("GOOGLE", "house", "zdanie"));
+
+        TranslationCardDto result = service("hedge", 1000, yandex, google).translate("house", Language.EN, Language.RU);
+
+        assertThat(result.getProvider()).isEqualTo("GOOGLE");
+        assertThat(yandex.calls).hasValue(1);
+    }
+
+    @DisplayName("Should return null for a language pair without translators")
+    @Test
+    void givenUnroutedPair_whenTranslate_thenNullIsReturned() {
+        when(translatorRegistry.route(Language.DE, Language.RU)).thenReturn(new long[0]);
+
+        assertThat(service("hedge", 1000).translate("Haus", Language.DE, Language.RU)).isNull();
+    }
+
+    private MultiProviderTranslationService service(
+            String mode, long hedgeDelayMillis, TranslationProvider... providers) {
+        return new MultiProviderTranslationServiceImpl(
+                translatorRegistry, externalCalls, List.of(providers), mode, hedgeDelayMillis);
+    }
+
+    private static TranslationCardDto card(String provider, String entry, String... translations) {
+        TranslationDto[] translationDtos = Arrays.stream(translations)
+                .map(text -> TranslationDto.builder().text(text).build())
+                .toArray(TranslationDto[]::new);
+        DefinitionDto definition = DefinitionDto.builder()
+                .text(entry)
+                .pos("noun")
+                .translations(translationDtos)
+                .build();
+        return new TranslationCardDto(provider, new DefinitionDto[] {definition});
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @RequiredArgsConstructor
+    @FieldDefaults(level = PRIVATE, makeFinal = true)
+    private static class FakeProvider implements TranslationProvider {
+        String name;
+        Supplier<TranslationCardDto> result;
+        AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Provider getProvider() {
+            // only the timeout depends on it, and every provider gets the default one here
+            return Provider.YANDEX;
+        }
+
+        @Override
+        public TranslationCardDto translate(String entry, Language sourceLang, Language targetLang) {
+            calls.incrementAndGet();
+            return result.get();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.almonium.engine.translator.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almonium.engine.translator.dto.TranslationCardDto;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.service.impl.TranslationCache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@FieldDefaults(level = PRIVATE)
+class TranslationCacheTest {
+    TranslationCache translationCache;
+
+    @BeforeEach
+    void setUp() {
+        translationCache = new TranslationCache(100, 60);
+    }
+
+    @DisplayName("Should serve repeated lookups of the same entry from the cache regardless of surrounding whitespace")
+    @Test
+    void givenCachedEntry_whenGetWithSurroundingWhitespace_thenLoaderIsNotCalledAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        TranslationCardDto card = TranslationCardDto.builder().provider("YANDEX").build();
+
+        TranslationCardDto first = translationCache.get(Language.EN, Language.RU, "House", () -> {
+            loads.incrementAndGet();
+            return card;
+        });
+        TranslationCardDto second = translationCache.get(Language.EN, Language.RU, "  House ", () -> {
+            loads.incrementAndGet();
+            return card;
+        });
+
+        assertThat(first).isSameAs(card);
+        assertThat(second).isSameAs(card);
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("Should keep entries that differ only in case apart")
+    @Test
+    void givenCachedEntry_whenGetWithDifferentCase_thenLoaderIsCalled() {
+        TranslationCardDto country = TranslationCardDto.builder().build();
+        TranslationCardDto bird = TranslationCardDto.builder().build();
+
+        translationCache.get(Language.EN, Language.RU, "Turkey", () -> country);
+
+        assertThat(translationCache.get(Language.EN, Language.RU, "turkey", () -> bird))
+                .isSameAs(bird);
+        assertThat(translationCache.get(Language.EN, Language.RU, "Turkey", () -> bird))
+                .isSameAs(country);
+    }
+
+    @DisplayName("Should keep entries of different language pairs apart")
+    @Test
+    void givenCachedEntry_whenGetForAnotherLanguagePair_thenLoaderIsCalled() {
+        AtomicInteger loads = new AtomicInteger();
+
+        translationCache.get(Language.EN, Language.RU, "house", () -> {
+            loads.incrementAndGet();
+            return TranslationCardDto.builder().build();
+        });
+        translationCache.get(Language.EN, Language.DE, "house", () -> {
+            loads.incrementAndGet();
+            return TranslationCardDto.builder().build();
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("Should not cache missing translations")
+    @Test
+    void givenLoaderReturnsNull_whenGetTwice_thenLoaderIsCalledTwice() {
+        AtomicInteger loads = new AtomicInteger();
+
+        translationCache.get(Language.EN, Language.RU, "house", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        TranslationCardDto result = translationCache.get(Language.EN, Language.RU, "house", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(result).isNull();
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("Should rethrow loader failures without caching them")
+    @Test
+    void givenLoaderThrows_whenGet_thenExceptionIsRethrown() {
+        assertThatThrownBy(() -> translationCache.get(Language.EN, Language.RU, "house", () -> {
+                    throw new IllegalStateException("provider down");
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("provider down");
+
+        TranslationCardDto card = TranslationCardDto.builder().build();
+        assertThat(translationCache.get(Language.EN, Language.RU, "house", () -> card))
+                .isSameAs(card);
+    }
+
+    @DisplayName("Should run a single lookup for concurrent misses of the same entry")
+    @Test
+    void givenConcurrentMisses_whenGet_thenLoaderIsCalledOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TranslationCardDto card = TranslationCardDto.builder().build();
+
+        CompletableFuture<TranslationCardDto> first =
+                CompletableFuture.supplyAsync(() -> translationCache.get(Language.EN, Language.RU, "house", () -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    await(release);
+                    return card;
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<TranslationCardDto> second =
+                CompletableFuture.supplyAsync(() -> translationCache.get(Language.EN, Language.RU, "house", () -> {
+                    loads.incrementAndGet();
+                    return TranslationCardDto.builder().build();
+                }));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(card);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(card);
+        assertThat(loads).hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.almonium.engine.translator.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.engine.translator.model.entity.LangPairTranslatorMapping;
+import com.almonium.engine.translator.model.entity.Translator;
+import com.almonium.engine.translator.model.enums.Language;
+import com.almonium.engine.translator.repository.LangPairTranslatorRepository;
+import com.almonium.engine.translator.repository.TranslatorRepository;
+import com.almonium.engine.translator.service.impl.TranslatorRegistry;
+import java.util.List;
+import java.util.NoSuchElementException;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class TranslatorRegistryTest {
+    static final Translator GOOGLE = new Translator(1L, "GOOGLE");
+    static final Translator YANDEX = new Translator(3L, "YANDEX");
+
+    @Mock
+    LangPairTranslatorRepository langPairTranslatorRepository;
+
+    @Mock
+    TranslatorRepository translatorRepository;
+
+    @InjectMocks
+    TranslatorRegistry translatorRegistry;
+
+    @BeforeEach
+    void setUp() {
+        when(translatorRepository.findAll()).thenReturn(List.of(GOOGLE, YANDEX));
+        // the repository sorts by priority, so the stub returns the mappings already in that order
+        when(langPairTranslatorRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(
+                        new LangPairTranslatorMapping(Language.EN, Language.RU, 3L, YANDEX, 1),
+                        new LangPairTranslatorMapping(Language.EN, Language.RU, 1L, GOOGLE, 2),
+                        new LangPairTranslatorMapping(Language.DE, Language.EN, 3L, YANDEX, 1)));
+    }
+
+    @DisplayName("Should route a language pair to its translators in priority order")
+    @Test
+    void givenMappings_whenRoute_thenTranslatorIdsAreReturnedByPriority() {
+        assertThat(translatorRegistry.route(Language.EN, Language.RU)).containsExactly(3L, 1L);
+        assertThat(translatorRegistry.route(Language.DE, Language.EN)).containsExactly(3L);
+    }
+
+    @DisplayName("Should return no translators for an unsupported language pair")
+    @Test
+    void givenNoMapping_whenRoute_thenEmptyArrayIsReturned() {
+        assertThat(translatorRegistry.route(Language.RU, Language.DE)).isEmpty();
+        assertThat(translatorRegistry.route(Language.EN, Language.DE)).isEmpty();
+    }
+
+    @DisplayName("Should load the tables once and serve later lookups from memory")
+    @Test
+    void givenLoadedRegistry_whenLookedUpRepeatedly_thenRepositoriesAreQueriedOnce() {
+        translatorRegistry.route(Language.EN, Language.RU);
+        translatorRegistry.route(Language.DE, Language.EN);
+        assertThat(translatorRegistry.getYandex()).isEqualTo(YANDEX);
+        assertThat(translatorRegistry.getGoogle()).isEqualTo(GOOGLE);
+
+        verify(translatorRepository, times(1)).findAll();
+        verify(langPairTranslatorRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @DisplayName("Should not let callers modify the routing table")
+    @Test
+    void givenRoute_whenReturnedArrayIsModified_thenRoutingTableIsUnchanged() {
+        translatorRegistry.route(Language.EN, Language.RU)[0] = 42L;
+
+        assertThat(translatorRegistry.route(Language.EN, Language.RU)).containsExactly(3L, 1L);
+    }
+
+    @DisplayName("Should pick up changed mappings on refresh")
+    @Test
+    void givenChangedMappings_whenRefresh_thenNewRoutesAreServed() {
+        translatorRegistry.refresh();
+        when(langPairTranslatorRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(new LangPairTranslatorMapping(Language.EN, Language.RU, 1L, GOOGLE, 1)));
+
+        translatorRegistry.refresh();
+
+        assertThat(translatorRegistry.route(Language.EN, Language.RU)).containsExactly(1L);
+        assertThat(translatorRegistry.route(Language.DE, Language.EN)).isEmpty();
+    }
+
+    @DisplayName("Should fail for an unknown translator name")
+    @Test
+    void givenUnknownName_whenGetByName_thenExceptionIsThrown() {
+        assertThatThrownBy(() -> translatorRegistry.getByName("DEEPL")).isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.almonium.engine.translator.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SentenceChunkerTest {
+
+    @DisplayName("Should return short text as a single chunk")
+    @Test
+    void givenShortText_whenChunk_thenReturnSingleChunk() {
+        assertThat(chunk("One sentence. Two sentences.", 100)).containsExactly("One sentence. Two sentences.");
+    }
+
+    @DisplayName("Should cut long text on sentence boundaries")
+    @Test
+    void givenLongText_whenChunk_thenCutOnSentenceBoundaries() {
+        List<String> chunks = chunk("First sentence here. Second one. Third sentence is last.", 35);
+
+        assertThat(chunks).containsExactly("First sentence here. Second one. ", "Third sentence is last.");
+    }
+
+    @DisplayName("Should fall back to whitespace when a sentence exceeds the chunk length")
+    @Test
+    void givenSentenceLongerThanChunk_whenChunk_thenCutOnWhitespace() {
+        List<String> chunks = chunk("an extremely long sentence without end", 12);
+
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(12));
+        assertThat(chunks.get(0)).isEqualTo("an extremely");
+    }
+
+    @DisplayName("Should cut inside a word only when there is no whitespace")
+    @Test
+    void givenUnbrokenText_whenChunk_thenCutAtMaxLength() {
+        assertThat(chunk("abcdefghij", 4)).containsExactly("abcd", "efgh", "ij");
+    }
+
+    @DisplayName("Should preserve the whole input across chunks")
+    @Test
+    void givenLargeText_whenChunk_thenConcatenationEqualsInput() {
+        String text = "This is a sentence, and it repeats.\n\nWhat about questions? Yes! ".repeat(5_000);
+
+        List<String> chunks = chunk(text, 1_000);
+
+        assertThat(String.join("", chunks)).isEqualTo(text);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(1_000));
+    }
+
+    @DisplayName("Should return no chunks for empty input")
+    @Test
+    void givenEmptyText_whenChunk_thenReturnNothing() {
+        assertThat(chunk("", 10)).isEmpty();
+    }
+
+    private static List<String> chunk(String text, int maxLength) {
+        SentenceChunker chunker = new SentenceChunker(new StringReader(text), maxLength, Locale.ROOT);
+        List<String> chunks = new ArrayList<>();
+        chunker.forEachRemaining(chunks::add);
+        return chunks;
+    }
+}